@@ -0,0 +1,44 @@
+package com.sparta.icy.AOP;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나당 지표 기록 비용 (핸들러 조회 + 시작/종료 기록).
+ * gc 프로파일러의 gc.alloc.rate.norm 으로 요청당 할당 바이트를 확인합니다 (목표: 0에 가까움).
+ * ./gradlew jmh -Pjmh.includes=HandlerMetricsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class HandlerMetricsBenchmark {
+
+    private HandlerMetrics handlerMetrics;
+    private Method method;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handlerMetrics = new HandlerMetrics(new SimpleMeterRegistry());
+        method = HandlerMetricsBenchmark.class.getMethod("recordRequest");
+        handlerMetrics.handler(method);
+    }
+
+    @Benchmark
+    public long recordRequest() {
+        HandlerMetrics.Handler handler = handlerMetrics.handler(method);
+        long start = handler.start();
+        handler.stop(start, null);
+        return start;
+    }
+}
@@ -0,0 +1,133 @@
+package com.sparta.icy.bulk;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시물 insert 방식 비교 (행당 시간).
+ * identityPerRow: AUTO_INCREMENT + 행마다 생성 키 회수 (기존 IDENTITY 방식, batch 불가)
+ * pooledBatched: id 를 50개씩 미리 할당하고 chunk 단위로 executeBatch (BulkImporter 방식)
+ * H2 인메모리라 네트워크 왕복이 없어 차이가 실제 MySQL 보다 작게 나옵니다.
+ * ./gradlew jmh -Pjmh.includes=BatchInsertBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BatchInsertBenchmark {
+
+    private static final int ROWS = 500;
+    private static final int ALLOCATION_SIZE = 50;
+
+    private Connection connection;
+    private long nextId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE identity_feed (id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id BIGINT NOT NULL, "
+                    + "title VARCHAR(255) NOT NULL, content VARCHAR(255) NOT NULL, created_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE TABLE pooled_feed (id BIGINT PRIMARY KEY, user_id BIGINT NOT NULL, "
+                    + "title VARCHAR(255) NOT NULL, content VARCHAR(255) NOT NULL, created_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE TABLE id_sequences (sequence_name VARCHAR(255) PRIMARY KEY, next_val BIGINT)");
+            statement.execute("INSERT INTO id_sequences VALUES ('pooled_feed', 1)");
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long identityPerRow() throws SQLException {
+        long last = 0;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO identity_feed (user_id, title, content, created_at) VALUES (?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                insert.setLong(1, 1L);
+                insert.setString(2, "제목" + i);
+                insert.setString(3, "내용" + i);
+                insert.setTimestamp(4, now);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    last = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return last;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long pooledBatched() throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long remaining = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO pooled_feed (id, user_id, title, content, created_at) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                if (remaining == 0) {
+                    nextId = allocate();
+                    remaining = ALLOCATION_SIZE;
+                }
+                insert.setLong(1, nextId++);
+                insert.setLong(2, 1L);
+                insert.setString(3, "제목" + i);
+                insert.setString(4, "내용" + i);
+                insert.setTimestamp(5, now);
+                insert.addBatch();
+                remaining--;
+                if ((i + 1) % ALLOCATION_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        return nextId;
+    }
+
+    // id_sequences 에서 한 구간을 가져옵니다 (Hibernate pooled 최적화기와 같은 왕복 수).
+    private long allocate() throws SQLException {
+        long value;
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT next_val FROM id_sequences WHERE sequence_name = 'pooled_feed' FOR UPDATE");
+             ResultSet rs = select.executeQuery()) {
+            rs.next();
+            value = rs.getLong(1);
+        }
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE id_sequences SET next_val = ? WHERE sequence_name = 'pooled_feed'")) {
+            update.setLong(1, value + ALLOCATION_SIZE);
+            update.executeUpdate();
+        }
+        return value;
+    }
+}
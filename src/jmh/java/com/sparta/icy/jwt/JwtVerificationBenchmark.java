@@ -0,0 +1,70 @@
+package com.sparta.icy.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나당 JWT 검증 비용 비교.
+ * - legacyTwoParses: 요청마다 파서를 새로 만들어 두 번 파싱 (예전 JwtAuthorizationFilter 방식)
+ * - sharedParserOnce: 재사용 파서로 한 번 파싱
+ * - verifiedCacheHit: 최근 검증한 토큰 (다이제스트 캐시 적중)
+ * ./gradlew jmh -Pjmh.includes=JwtVerificationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private Key key;
+    private JwtParser parser;
+    private VerifiedTokenCache cache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor("0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII));
+        parser = Jwts.parserBuilder().setSigningKey(key).build();
+        Date now = new Date();
+        token = Jwts.builder()
+                .claim("username", "benchmark-user")
+                .setExpiration(new Date(now.getTime() + 3_600_000L))
+                .setIssuedAt(now)
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+        cache = new VerifiedTokenCache(10_000, Duration.ofMinutes(5));
+        cache.put(token, parser.parseClaimsJws(token).getBody());
+    }
+
+    @Benchmark
+    public String legacyTwoParses() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return claims.get("username", String.class);
+    }
+
+    @Benchmark
+    public String sharedParserOnce() {
+        return parser.parseClaimsJws(token).getBody().get("username", String.class);
+    }
+
+    @Benchmark
+    public String verifiedCacheHit() {
+        return cache.get(token).get("username", String.class);
+    }
+}
@@ -0,0 +1,65 @@
+package com.sparta.icy.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시물 100만 건 색인에서의 검색 지연 측정.
+ * ./gradlew jmh -Pjmh.includes=InvertedIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InvertedIndexBenchmark {
+    private static final String[] WORDS = {
+            "스프링", "백엔드", "프론트엔드", "리액트", "팀원", "모집", "스터디", "프로젝트", "사이드", "포트폴리오",
+            "spring", "boot", "jpa", "react", "typescript", "kotlin", "docker", "aws", "mysql", "redis",
+            "주말", "온라인", "오프라인", "서울", "초보", "환영", "디자이너", "기획자", "개발자", "취업"
+    };
+
+    @Param({"1000000"})
+    public int documents;
+
+    private InvertedIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new InvertedIndex();
+        Random random = new Random(42);
+        for (long id = 1; id <= documents; id++) {
+            index.put(id, sentence(random, 4), sentence(random, 25));
+        }
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            sb.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return sb.toString();
+    }
+
+    @Benchmark
+    public InvertedIndex.SearchResult singleEnglishTerm() {
+        return index.search("kotlin", 0, 20);
+    }
+
+    @Benchmark
+    public InvertedIndex.SearchResult koreanPhrase() {
+        return index.search("스프링 팀원 모집", 0, 20);
+    }
+
+    @Benchmark
+    public InvertedIndex.SearchResult deepPage() {
+        return index.search("react 포트폴리오", 980, 20);
+    }
+}
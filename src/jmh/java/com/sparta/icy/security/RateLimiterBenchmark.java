@@ -0,0 +1,49 @@
+package com.sparta.icy.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 제한 검사 한 번의 비용 (목표: 1µs 미만).
+ * - hotKey: 모든 스레드가 같은 키를 두드리는 경우 (CAS 경합 최악)
+ * - spreadKeys: 1만 개 키에 고르게 퍼진 경우
+ * ./gradlew jmh -Pjmh.includes=RateLimiterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class RateLimiterBenchmark {
+
+    private RateLimiter limiter;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        limiter = new RateLimiter(1_000_000, Duration.ofSeconds(1), 1000, 100_000);
+        keys = new String[10_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @Benchmark
+    public long hotKey() {
+        return limiter.tryAcquire("10.0.0.1");
+    }
+
+    @Benchmark
+    public long spreadKeys() {
+        return limiter.tryAcquire(keys[ThreadLocalRandom.current().nextInt(keys.length)]);
+    }
+}
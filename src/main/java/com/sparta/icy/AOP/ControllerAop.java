@@ -1,5 +1,7 @@
 package com.sparta.icy.AOP;
 
+import com.sparta.icy.sql.QueryBudgetGuard;
+import com.sparta.icy.sql.SqlContext;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -7,15 +9,22 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.lang.reflect.Method;
+
 @Slf4j(topic = "RequestAop")
 @Aspect
 @Component
 @RequiredArgsConstructor
 public class ControllerAop {
+    private final HandlerMetrics handlerMetrics;
+    private final QueryBudgetGuard queryBudgetGuard;
+
     @Pointcut("execution(* com.sparta.icy.controller.UserController.*(..))")
     private void User() {}
     @Pointcut("execution(* com.sparta.icy.controller.NewsfeedController.*(..))")
@@ -27,19 +36,34 @@ public class ControllerAop {
     @Pointcut("execution(* com.sparta.icy.controller.CommentController.*(..))")
     private void Comment() {}
 
+    // 메서드별 처리 시간/오류/동시 요청 수를 기록합니다 (HandlerMetrics).
+    // 실행되는 SQL 은 핸들러 이름으로 묶고, 정상 종료하면 문장 수를 @QueryBudget 과 비교합니다.
     @Around("User() || Newsfeed() || Log() || Comment()")
     public Object execute(ProceedingJoinPoint joinPoint) throws Throwable {
-
-        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
-        String requestURL = request.getRequestURL().toString();
-        String method = request.getMethod();
-
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        HandlerMetrics.Handler handler = handlerMetrics.handler(method);
+        SqlContext.Scope sqlScope = SqlContext.enter(handler.getName());
+        long start = handler.start();
+        Throwable error = null;
         try {
             // 핵심기능 수행
-            Object output = joinPoint.proceed();
-            return output;
+            Object result = joinPoint.proceed();
+            queryBudgetGuard.check(method, sqlScope);
+            return result;
+        } catch (Throwable e) {
+            error = e;
+            throw e;
         } finally {
-            log.info("Request URL: {}, HTTP Method: {}", requestURL, method);
+            handler.stop(start, error);
+            SqlContext.exit(sqlScope);
+            // 요청마다 URL 문자열을 만들지 않도록 debug 일 때만 남깁니다.
+            if (log.isDebugEnabled()) {
+                RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+                if (attributes instanceof ServletRequestAttributes servletAttributes) {
+                    HttpServletRequest request = servletAttributes.getRequest();
+                    log.debug("Request URL: {}, HTTP Method: {}, handler: {}", request.getRequestURI(), request.getMethod(), handler.getName());
+                }
+            }
         }
     }
-}
\ No newline at end of file
+}
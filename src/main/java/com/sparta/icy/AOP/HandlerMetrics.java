@@ -0,0 +1,93 @@
+package com.sparta.icy.AOP;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 컨트롤러 메서드별 지연 시간, 오류 수, 처리 중인 요청 수.
+ * 메서드마다 meter 를 처음 한 번만 만들고, 요청 경로에서는 조회와 기록만 합니다.
+ * 요청마다 남는 할당은 ControllerAop 의 getSignature() 가 만드는 MethodSignature 정도이고,
+ * 예외가 난 요청은 오류 카운터를 찾느라 Counter.Builder 와 태그를 추가로 만듭니다.
+ * 백분위는 Micrometer 의 HdrHistogram 기반 시간 창 히스토그램으로 계산되고(기록은 잠금 없음),
+ * /actuator/metrics/controller.requests?tag=handler:NewsfeedController.getNewsfeeds 처럼 조회합니다.
+ */
+@Component
+public class HandlerMetrics {
+
+    static final String LATENCY = "controller.requests";
+    static final String ERRORS = "controller.errors";
+    static final String IN_FLIGHT = "controller.in-flight";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<Method, Handler> handlers = new ConcurrentHashMap<>();
+
+    public HandlerMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Handler handler(Method method) {
+        // 이미 있는 경우 computeIfAbsent 의 람다 할당도 피합니다.
+        Handler handler = handlers.get(method);
+        return handler != null ? handler : handlers.computeIfAbsent(method, this::register);
+    }
+
+    private Handler register(Method method) {
+        String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        Timer timer = Timer.builder(LATENCY)
+                .description("컨트롤러 메서드 처리 시간")
+                .tag("handler", name)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .percentilePrecision(2)
+                .register(meterRegistry);
+        AtomicInteger inFlight = new AtomicInteger();
+        Gauge.builder(IN_FLIGHT, inFlight, AtomicInteger::get)
+                .description("처리 중인 요청 수")
+                .tag("handler", name)
+                .register(meterRegistry);
+        return new Handler(name, timer, inFlight, meterRegistry);
+    }
+
+    public static final class Handler {
+        private final String name;
+        private final Timer timer;
+        private final AtomicInteger inFlight;
+        private final MeterRegistry meterRegistry;
+
+        private Handler(String name, Timer timer, AtomicInteger inFlight, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.timer = timer;
+            this.inFlight = inFlight;
+            this.meterRegistry = meterRegistry;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long start() {
+            inFlight.incrementAndGet();
+            return System.nanoTime();
+        }
+
+        public void stop(long startNanos, Throwable error) {
+            timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            inFlight.decrementAndGet();
+            if (error != null) {
+                // 예외 종류별 카운터 조회는 오류 경로에서만 합니다.
+                Counter.builder(ERRORS)
+                        .tag("handler", name)
+                        .tag("exception", error.getClass().getSimpleName())
+                        .register(meterRegistry)
+                        .increment();
+            }
+        }
+    }
+}
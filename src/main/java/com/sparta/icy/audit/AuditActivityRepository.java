@@ -0,0 +1,50 @@
+package com.sparta.icy.audit;
+
+import com.sparta.icy.dto.ActivityCountDto;
+import com.sparta.icy.entity.AuditAction;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 감사 로그 집계 조회.
+ * 집계가 끝난 날은 log_daily_count 에서, 아직 집계하지 않은 날(보통 오늘)은 log 원본에서 셉니다.
+ */
+@Repository
+public class AuditActivityRepository {
+
+    private static final RowMapper<ActivityCountDto> ROW_MAPPER = (rs, rowNum) -> new ActivityCountDto(
+            rs.getDate(1).toLocalDate(), AuditAction.fromCode(rs.getShort(2)), rs.getLong(3));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuditActivityRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 이 날짜 전날까지 집계됨. 아직 한 번도 집계하지 않았으면 null
+    public LocalDate findRolledUntil() {
+        Date rolledUntil = jdbcTemplate.queryForObject("SELECT rolled_until FROM log_rollup_state WHERE id = 1", Date.class);
+        return rolledUntil == null ? null : rolledUntil.toLocalDate();
+    }
+
+    // [from, to) 구간, 기본키 (log_date, action) 범위 조회
+    public List<ActivityCountDto> findRolledUp(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query("SELECT log_date, action, event_count FROM log_daily_count " +
+                        "WHERE log_date >= ? AND log_date < ? ORDER BY log_date, action",
+                ROW_MAPPER, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    // [from, to) 구간, idx_log_created_at 범위 조회
+    public List<ActivityCountDto> countRaw(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query("SELECT CAST(created_at AS DATE) AS log_date, action, COUNT(*) FROM log " +
+                        "WHERE created_at >= ? AND created_at < ? " +
+                        "GROUP BY CAST(created_at AS DATE), action ORDER BY log_date, action",
+                ROW_MAPPER, Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.atStartOfDay()));
+    }
+}
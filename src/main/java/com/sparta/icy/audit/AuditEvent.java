@@ -0,0 +1,24 @@
+package com.sparta.icy.audit;
+
+import com.sparta.icy.entity.AuditAction;
+import lombok.Getter;
+
+import java.time.Instant;
+
+// 큐에 쌓이는 감사 로그 한 건
+@Getter
+public class AuditEvent {
+    // 알 수 없는 사용자면 null
+    private final Long userId;
+    private final AuditAction action;
+    private final Instant occurredAt;
+    // 큐 지연 측정용
+    private final long enqueuedNanos;
+
+    public AuditEvent(Long userId, AuditAction action, Instant occurredAt, long enqueuedNanos) {
+        this.userId = userId;
+        this.action = action;
+        this.occurredAt = occurredAt;
+        this.enqueuedNanos = enqueuedNanos;
+    }
+}
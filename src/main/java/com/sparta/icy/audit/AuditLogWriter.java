@@ -0,0 +1,180 @@
+package com.sparta.icy.audit;
+
+import com.sparta.icy.entity.AuditAction;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 감사 로그(log 테이블)를 요청 스레드 밖에서 모아 쓰는 writer.
+ * append 는 잠금 없는 큐에 넣기만 하고, 백그라운드 스레드가 batch-size 개씩 JDBC batch insert 합니다.
+ * 큐 크기는 capacity 로 제한하고, 넘치면 overflow-policy 에 따릅니다.
+ * 종료 시 남은 이벤트를 모두 쓰고 끝납니다.
+ */
+@Slf4j(topic = "감사 로그")
+@Component
+public class AuditLogWriter {
+
+    static final String INSERT_SQL = "INSERT INTO log (user_id, action, created_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final OverflowPolicy overflowPolicy;
+
+    private final ConcurrentLinkedQueue<AuditEvent> queue = new ConcurrentLinkedQueue<>();
+    // ConcurrentLinkedQueue.size() 는 O(n) 이므로 따로 셉니다.
+    private final AtomicInteger size = new AtomicInteger();
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private volatile Thread worker;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+                          @Value("${audit.queue-capacity:10000}") int capacity,
+                          @Value("${audit.batch-size:200}") int batchSize,
+                          @Value("${audit.flush-interval:200ms}") Duration flushInterval,
+                          @Value("${audit.overflow-policy:drop}") OverflowPolicy overflowPolicy,
+                          MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.overflowPolicy = overflowPolicy;
+
+        this.written = Counter.builder("audit.log.written").description("DB 에 쓴 감사 로그 수").register(meterRegistry);
+        this.dropped = Counter.builder("audit.log.dropped").description("큐가 가득 차 버린 감사 로그 수").register(meterRegistry);
+        this.failed = Counter.builder("audit.log.failed").description("insert 실패로 잃은 감사 로그 수").register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.log.flush").description("batch insert 한 번에 걸린 시간").register(meterRegistry);
+        Gauge.builder("audit.log.queue.size", size, AtomicInteger::get)
+                .description("쓰기를 기다리는 감사 로그 수").register(meterRegistry);
+        Gauge.builder("audit.log.queue.lag", this, writer -> writer.lagSeconds())
+                .description("가장 오래 기다린 감사 로그의 대기 시간(초)").baseUnit("seconds").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::run, "audit-log-writer");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    public void append(Long userId, AuditAction action) {
+        AuditEvent event = new AuditEvent(userId, action, Instant.now(), System.nanoTime());
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            overflow(event);
+            return;
+        }
+        queue.offer(event);
+        // 한 batch 가 모이면 주기를 기다리지 않고 깨웁니다.
+        if (size.get() == batchSize) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    private void overflow(AuditEvent event) {
+        if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+            write(List.of(event));
+        } else {
+            dropped.increment();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            if (drainOnce() < batchSize) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+    }
+
+    // 큐에서 최대 batchSize 개를 꺼내 씁니다. 쓴(시도한) 개수를 돌려줍니다.
+    int drainOnce() {
+        List<AuditEvent> batch = new ArrayList<>(Math.min(batchSize, Math.max(size.get(), 1)));
+        AuditEvent event;
+        while (batch.size() < batchSize && (event = queue.poll()) != null) {
+            batch.add(event);
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        size.addAndGet(-batch.size());
+        write(batch);
+        return batch.size();
+    }
+
+    private void write(List<AuditEvent> batch) {
+        long start = System.nanoTime();
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+                if (event.getUserId() == null) {
+                    ps.setNull(1, Types.BIGINT);
+                } else {
+                    ps.setLong(1, event.getUserId());
+                }
+                ps.setShort(2, event.getAction().getCode());
+                ps.setTimestamp(3, Timestamp.from(event.getOccurredAt()));
+            });
+            written.increment(batch.size());
+        } catch (DataAccessException e) {
+            failed.increment(batch.size());
+            log.error("감사 로그 {}건 저장 실패: {}", batch.size(), e.getMessage());
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private double lagSeconds() {
+        AuditEvent head = queue.peek();
+        return head == null ? 0 : (System.nanoTime() - head.getEnqueuedNanos()) / 1e9;
+    }
+
+    // 백그라운드 스레드를 멈추고 남은 이벤트를 모두 씁니다.
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        Thread thread = worker;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        int flushed = 0;
+        int drained;
+        while ((drained = drainOnce()) > 0) {
+            flushed += drained;
+        }
+        if (flushed > 0) {
+            log.info("종료 전 감사 로그 {}건 저장", flushed);
+        }
+    }
+
+    int queued() {
+        return size.get();
+    }
+}
@@ -0,0 +1,109 @@
+package com.sparta.icy.audit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 감사 로그 일별 집계와 보존 기간 정리.
+ * 끝난 날을 하루씩 log_daily_count 로 집계하고(하루에 트랜잭션 하나, 멈춘 곳부터 이어서),
+ * 집계가 끝났고 보존 기간도 지난 원본 행은 청크 단위로 지웁니다.
+ */
+@Slf4j(topic = "감사 로그 집계")
+@Component
+public class AuditRollupJob {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditActivityRepository auditActivityRepository;
+    private final Duration retention;
+    private final int purgeBatchSize;
+
+    public AuditRollupJob(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                          AuditActivityRepository auditActivityRepository,
+                          @Value("${audit.retention:90d}") Duration retention,
+                          @Value("${audit.purge-batch-size:1000}") int purgeBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = transactionTemplate;
+        this.auditActivityRepository = auditActivityRepository;
+        this.retention = retention;
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    @Scheduled(cron = "${audit.rollup-cron:0 10 0 * * *}")
+    public void run() {
+        LocalDate today = LocalDate.now();
+        int days = rollup(today);
+        int purged = purge(today);
+        log.info("감사 로그 {}일 집계, 원본 {}건 삭제", days, purged);
+    }
+
+    // today 전날까지 집계하고 집계한 날 수를 돌려줍니다.
+    public int rollup(LocalDate today) {
+        LocalDate day = auditActivityRepository.findRolledUntil();
+        if (day == null) {
+            Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM log", Timestamp.class);
+            day = oldest == null ? today : oldest.toLocalDateTime().toLocalDate();
+        }
+        int days = 0;
+        for (; day.isBefore(today); day = day.plusDays(1)) {
+            rollupDay(day);
+            days++;
+        }
+        if (days == 0) {
+            // 첫 실행에 원본이 없으면 오늘부터 집계하도록 기준만 남깁니다.
+            jdbcTemplate.update("UPDATE log_rollup_state SET rolled_until = ? WHERE id = 1 AND rolled_until IS NULL",
+                    Date.valueOf(today));
+        }
+        return days;
+    }
+
+    private void rollupDay(LocalDate day) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // 다시 돌려도 같은 결과가 되도록 그날 집계를 지우고 새로 넣습니다.
+            jdbcTemplate.update("DELETE FROM log_daily_count WHERE log_date = ?", Date.valueOf(day));
+            jdbcTemplate.update("INSERT INTO log_daily_count (log_date, action, event_count) " +
+                            "SELECT CAST(? AS DATE), action, COUNT(*) FROM log " +
+                            "WHERE created_at >= ? AND created_at < ? GROUP BY action",
+                    Date.valueOf(day), Timestamp.valueOf(day.atStartOfDay()), Timestamp.valueOf(day.plusDays(1).atStartOfDay()));
+            jdbcTemplate.update("UPDATE log_rollup_state SET rolled_until = ? WHERE id = 1", Date.valueOf(day.plusDays(1)));
+        });
+    }
+
+    // 보존 기간이 지났고 이미 집계된 원본 행을 지우고 지운 개수를 돌려줍니다.
+    public int purge(LocalDate today) {
+        LocalDate rolledUntil = auditActivityRepository.findRolledUntil();
+        if (rolledUntil == null) {
+            return 0;
+        }
+        LocalDate retainFrom = today.minusDays(retention.toDays());
+        Timestamp cutoff = Timestamp.valueOf((retainFrom.isBefore(rolledUntil) ? retainFrom : rolledUntil).atStartOfDay());
+
+        int purged = 0;
+        while (true) {
+            // 청크마다 autocommit 이라 잠금을 짧게 잡습니다.
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT id FROM log WHERE created_at < ? ORDER BY created_at LIMIT ?", Long.class, cutoff, purgeBatchSize);
+            if (ids.isEmpty()) {
+                return purged;
+            }
+            purged += namedJdbcTemplate.update("DELETE FROM log WHERE id IN (:ids)", new MapSqlParameterSource("ids", ids));
+            if (ids.size() < purgeBatchSize) {
+                return purged;
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.sparta.icy.audit;
+
+// 감사 로그 큐가 가득 찼을 때의 처리
+public enum OverflowPolicy {
+    // 새 이벤트를 버리고 audit.log.dropped 를 올립니다 (요청 지연 없음).
+    DROP,
+    // 요청 스레드에서 바로 한 건 insert 합니다 (유실 없음, 그만큼 느려짐).
+    CALLER_RUNS
+}
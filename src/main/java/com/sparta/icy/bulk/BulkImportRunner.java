@@ -0,0 +1,54 @@
+package com.sparta.icy.bulk;
+
+import com.sparta.icy.dto.ImportResultDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * CLI 일괄 가져오기: --bulk-import.file=posts.ndjson 으로 실행하면 파일을 가져오고 종료합니다.
+ * 작성자는 각 줄의 userId 입니다. 웹 서버로 떠 있으면 가져오기만 하고 계속 실행됩니다.
+ * 실행 예) java -jar icy.jar --bulk-import.file=posts.ndjson --spring.main.web-application-type=none
+ */
+@Slf4j(topic = "일괄 가져오기")
+@Component
+@ConditionalOnProperty(name = "bulk-import.file")
+public class BulkImportRunner implements ApplicationRunner {
+
+    private final BulkImporter bulkImporter;
+    private final ApplicationContext context;
+    private final Path file;
+
+    public BulkImportRunner(BulkImporter bulkImporter, ApplicationContext context,
+                            @Value("${bulk-import.file}") String file) {
+        this.bulkImporter = bulkImporter;
+        this.context = context;
+        this.file = Path.of(file);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        int exitCode = 0;
+        try (InputStream in = Files.newInputStream(file)) {
+            ImportResultDto result = bulkImporter.importNdjson(in, null);
+            log.info("{} 가져오기 완료: 게시물 {}개, 댓글 {}개", file, result.getPosts(), result.getComments());
+        } catch (IllegalArgumentException e) {
+            log.error("{} 가져오기 실패: {}", file, e.getMessage());
+            exitCode = 1;
+        }
+        if (!(context instanceof WebServerApplicationContext)) {
+            int code = exitCode;
+            System.exit(SpringApplication.exit(context, () -> code));
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.sparta.icy.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.sparta.icy.config.CacheConfig;
+import com.sparta.icy.dto.ImportLineDto;
+import com.sparta.icy.dto.ImportResultDto;
+import com.sparta.icy.entity.Comment;
+import com.sparta.icy.entity.Newsfeed;
+import com.sparta.icy.entity.User;
+import com.sparta.icy.repository.NewsfeedRepository;
+import com.sparta.icy.search.NewsfeedSearchIndex;
+import com.sparta.icy.service.LatestNewsfeedSnapshot;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시물/댓글 NDJSON 일괄 가져오기.
+ * chunk-size 줄씩 트랜잭션 하나로 저장하고, 청크가 끝날 때마다 영속성 컨텍스트를 비웁니다.
+ * id 는 pooled 방식이라 persist 시점에 정해지므로 insert 는 JDBC batch 로 묶이고,
+ * 같은 파일의 댓글은 ref 로 방금 만든 게시물을 가리킬 수 있습니다.
+ * 오류가 나면 그 청크만 롤백되고 앞선 청크는 저장된 채로 남습니다 (메시지에 줄 번호를 알려줍니다).
+ */
+@Slf4j(topic = "일괄 가져오기")
+@Component
+public class BulkImporter {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final NewsfeedRepository newsfeedRepository;
+    private final NewsfeedSearchIndex searchIndex;
+    private final LatestNewsfeedSnapshot latestSnapshot;
+    private final Cache newsfeedCache;
+    private final ObjectReader lineReader;
+    private final int chunkSize;
+
+    public BulkImporter(EntityManager entityManager, TransactionTemplate transactionTemplate,
+                        NewsfeedRepository newsfeedRepository, NewsfeedSearchIndex searchIndex,
+                        LatestNewsfeedSnapshot latestSnapshot, CacheManager cacheManager, ObjectMapper objectMapper,
+                        @Value("${bulk-import.chunk-size:500}") int chunkSize) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.newsfeedRepository = newsfeedRepository;
+        this.searchIndex = searchIndex;
+        this.latestSnapshot = latestSnapshot;
+        this.newsfeedCache = cacheManager.getCache(CacheConfig.NEWSFEED_CACHE);
+        this.lineReader = objectMapper.readerFor(ImportLineDto.class);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * authorId 가 있으면 모든 게시물/댓글의 작성자를 그 사용자로 하고 createdAt 은 무시합니다 (API).
+     * 없으면 각 줄의 userId 와 createdAt 을 씁니다 (CLI).
+     */
+    public ImportResultDto importNdjson(InputStream in, Long authorId) throws IOException {
+        long start = System.nanoTime();
+        Map<String, Long> refs = new HashMap<>();
+        List<Line> chunk = new ArrayList<>(chunkSize);
+        long[] counts = new long[2];
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String text;
+        int number = 0;
+        try {
+            while ((text = reader.readLine()) != null) {
+                number++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                chunk.add(parse(text, number, authorId));
+                if (chunk.size() == chunkSize) {
+                    writeChunk(chunk, refs, counts);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(chunk, refs, counts);
+            }
+        } finally {
+            // 뒤 청크가 실패해도 앞 청크는 커밋되었으므로 스냅샷을 버립니다.
+            if (counts[0] + counts[1] > 0) {
+                latestSnapshot.invalidate();
+            }
+        }
+
+        long elapsedNanos = Math.max(System.nanoTime() - start, 1);
+        long rows = counts[0] + counts[1];
+        ImportResultDto result = new ImportResultDto(counts[0], counts[1], elapsedNanos / 1_000_000,
+                rows * 1_000_000_000L / elapsedNanos);
+        log.info("게시물 {}개, 댓글 {}개 가져옴 ({}ms, {} rows/s)",
+                result.getPosts(), result.getComments(), result.getElapsedMillis(), result.getRowsPerSecond());
+        return result;
+    }
+
+    private Line parse(String text, int number, Long authorId) {
+        ImportLineDto dto;
+        try {
+            dto = lineReader.readValue(text);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(number + "번째 줄: JSON 형식이 올바르지 않습니다.");
+        }
+        if (authorId != null) {
+            dto.setUserId(authorId);
+            // API 에서는 작성 시각을 받지 않습니다. (미래 시각으로 목록 맨 위에 고정되는 것을 막음)
+            dto.setCreatedAt(null);
+        }
+        if (dto.getUserId() == null) {
+            throw new IllegalArgumentException(number + "번째 줄: userId 가 없습니다.");
+        }
+        if (!StringUtils.hasText(dto.getContent())) {
+            throw new IllegalArgumentException(number + "번째 줄: content 가 비어있습니다.");
+        }
+        if (ImportLineDto.POST.equals(dto.getType())) {
+            if (!StringUtils.hasText(dto.getTitle())) {
+                throw new IllegalArgumentException(number + "번째 줄: title 이 비어있습니다.");
+            }
+        } else if (ImportLineDto.COMMENT.equals(dto.getType())) {
+            if (dto.getNewsfeedId() == null && !StringUtils.hasText(dto.getPostRef())) {
+                throw new IllegalArgumentException(number + "번째 줄: postRef 나 newsfeedId 가 필요합니다.");
+            }
+        } else {
+            throw new IllegalArgumentException(number + "번째 줄: type 은 post 또는 comment 여야 합니다.");
+        }
+        return new Line(number, dto);
+    }
+
+    private void writeChunk(List<Line> chunk, Map<String, Long> refs, long[] counts) {
+        List<Newsfeed> created = new ArrayList<>();
+        Map<Long, Long> commentDeltas = new HashMap<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Line line : chunk) {
+                    ImportLineDto dto = line.dto;
+                    LocalDateTime createdAt = dto.getCreatedAt() != null ? dto.getCreatedAt() : LocalDateTime.now();
+                    User user = entityManager.getReference(User.class, dto.getUserId());
+                    if (ImportLineDto.POST.equals(dto.getType())) {
+                        Newsfeed newsfeed = new Newsfeed();
+                        newsfeed.setUser(user);
+                        newsfeed.setTitle(dto.getTitle());
+                        newsfeed.setRecruitmentCount(dto.getRecruitmentCount());
+                        newsfeed.setContent(dto.getContent());
+                        newsfeed.setCreated_at(createdAt);
+                        newsfeed.setUpdated_at(createdAt);
+                        entityManager.persist(newsfeed);
+                        if (dto.getRef() != null) {
+                            refs.put(dto.getRef(), newsfeed.getId());
+                        }
+                        created.add(newsfeed);
+                    } else {
+                        Long feedId = dto.getNewsfeedId() != null ? dto.getNewsfeedId() : refs.get(dto.getPostRef());
+                        if (feedId == null) {
+                            throw new IllegalArgumentException(line.number + "번째 줄: postRef '" + dto.getPostRef() + "' 게시물이 앞에 없습니다.");
+                        }
+                        Comment comment = new Comment();
+                        comment.setUser(user);
+                        comment.setNewsfeed(entityManager.getReference(Newsfeed.class, feedId));
+                        comment.setContent(dto.getContent());
+                        comment.setCreated_at(createdAt);
+                        comment.setUpdated_at(createdAt);
+                        entityManager.persist(comment);
+                        commentDeltas.merge(feedId, 1L, Long::sum);
+                    }
+                }
+                // insert 를 batch 로 내보낸 뒤 게시물마다 댓글 수를 한 번씩 올립니다.
+                entityManager.flush();
+                commentDeltas.forEach(newsfeedRepository::adjustCommentCount);
+                entityManager.clear();
+            });
+        } catch (PersistenceException | DataAccessException e) {
+            String lines = chunk.get(0).number + "~" + chunk.get(chunk.size() - 1).number + "번째 줄";
+            if (!isConstraintViolation(e)) {
+                // 타임아웃, 교착 상태, DB 장애 등은 입력 문제가 아니므로 그대로 던집니다.
+                log.error("{} 저장 실패 (앞선 줄은 저장되었습니다)", lines, e);
+                throw e;
+            }
+            throw new IllegalArgumentException(lines + ": 없는 사용자나 게시물을 가리킵니다. (앞선 줄은 저장되었습니다)", e);
+        }
+
+        for (Newsfeed newsfeed : created) {
+            searchIndex.index(newsfeed.getId(), newsfeed.getTitle(), newsfeed.getContent());
+        }
+        commentDeltas.keySet().forEach(newsfeedCache::evict);
+        counts[0] += created.size();
+        counts[1] += commentDeltas.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static boolean isConstraintViolation(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DataIntegrityViolationException || cause instanceof ConstraintViolationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Line {
+        private final int number;
+        private final ImportLineDto dto;
+
+        private Line(int number, ImportLineDto dto) {
+            this.number = number;
+            this.dto = dto;
+        }
+    }
+}
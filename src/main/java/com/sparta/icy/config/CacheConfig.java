@@ -0,0 +1,32 @@
+package com.sparta.icy.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration // 캐시 설정을 등록합니다.
+@EnableCaching // @Cacheable, @CacheEvict 를 사용할 수 있도록 합니다.
+public class CacheConfig {
+    // 게시물 단건 조회 캐시 (크기/만료 정책은 application.yml 의 spring.cache.caffeine.spec)
+    public static final String NEWSFEED_CACHE = "newsfeed";
+    // JWT 인가 필터가 쓰는 사용자 정보 캐시 (username -> UserDetails)
+    public static final String USER_PRINCIPAL_CACHE = "userPrincipal";
+
+    // 사용자 정보 캐시는 공용 spec 보다 짧은 만료 시간을 따로 둡니다.
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> userPrincipalCacheCustomizer(
+            @Value("${security.principal-cache.ttl:60s}") Duration ttl,
+            @Value("${security.principal-cache.maximum-size:10000}") long maximumSize) {
+        return cacheManager -> cacheManager.registerCustomCache(USER_PRINCIPAL_CACHE, Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build());
+    }
+}
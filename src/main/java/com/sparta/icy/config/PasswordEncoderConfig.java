@@ -0,0 +1,30 @@
+package com.sparta.icy.config;
+
+import com.sparta.icy.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class PasswordEncoderConfig {
+
+    // strength 가 0 이면 기동 시 target-latency 에 맞춰 cost 를 정합니다.
+    // threads 가 0 이면 CPU 코어 수만큼 사용합니다.
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${security.password.strength:0}") int strength,
+            @Value("${security.password.target-latency:250ms}") Duration targetLatency,
+            @Value("${security.password.min-strength:10}") int minStrength,
+            @Value("${security.password.max-strength:14}") int maxStrength,
+            @Value("${security.password.threads:0}") int threads,
+            @Value("${security.password.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.wait-timeout:5s}") Duration waitTimeout,
+            MeterRegistry meterRegistry) {
+        int cost = strength > 0 ? strength : BoundedPasswordEncoder.calibrate(targetLatency, minStrength, maxStrength);
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(cost, poolSize, queueCapacity, waitTimeout, meterRegistry);
+    }
+}
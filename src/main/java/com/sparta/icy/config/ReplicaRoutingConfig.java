@@ -0,0 +1,64 @@
+package com.sparta.icy.config;
+
+import com.sparta.icy.routing.ReadYourWritesTracker;
+import com.sparta.icy.routing.ReplicaLagMonitor;
+import com.sparta.icy.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration // datasource.routing.enabled=true 이면 읽기 전용 서비스 트랜잭션을 replica 로 보냅니다 (ReplicaRoutingDataSource).
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(@Value("${datasource.routing.read-your-writes-window:5s}") Duration window) {
+        return new ReadYourWritesTracker(window);
+    }
+
+    // primary 는 spring.datasource, replica 는 같은 계정으로 replica-urls 에 접속합니다.
+    // 풀은 빈으로 따로 등록하지 않고 라우터가 종료 시 닫습니다.
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties, ReadYourWritesTracker readYourWritesTracker,
+                                 @Value("${datasource.routing.replica-urls}") List<String> replicaUrls,
+                                 @Value("${datasource.routing.replica-read-prefixes:com.sparta.icy.service.}") List<String> replicaReadPrefixes,
+                                 @Value("${datasource.routing.primary-reads:}") List<String> primaryReads) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        List<DataSource> replicas = new ArrayList<>(replicaUrls.size());
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(replicaUrls.get(i))
+                    .username(properties.determineUsername())
+                    .password(properties.determinePassword())
+                    .build();
+            replica.setPoolName("replica-" + i);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return ReplicaRoutingDataSource.create(primary, replicas, readYourWritesTracker, replicaReadPrefixes, primaryReads);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(DataSource dataSource, ReadYourWritesTracker readYourWritesTracker,
+                                               @Value("${datasource.routing.max-lag:2s}") Duration maxLag,
+                                               MeterRegistry meterRegistry) throws SQLException {
+        // SQL 통계용으로 감싸져 있을 수 있으므로 unwrap 으로 꺼냅니다.
+        return new ReplicaLagMonitor(dataSource.unwrap(ReplicaRoutingDataSource.class), readYourWritesTracker, maxLag, meterRegistry);
+    }
+}
@@ -0,0 +1,9 @@
+package com.sparta.icy.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration // 주기 작업(@Scheduled)을 등록합니다.
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,30 @@
+package com.sparta.icy.config;
+
+import com.sparta.icy.sql.InstrumentedDataSource;
+import com.sparta.icy.sql.SqlStatistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration // DataSource 를 InstrumentedDataSource 로 감싸 SQL 통계를 모읍니다 (/actuator/sqlstats).
+@ConditionalOnProperty(name = "sql.stats.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatsConfig {
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 만들어지므로 static 으로, SqlStatistics 는 감쌀 때 꺼냅니다.
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor(ObjectProvider<SqlStatistics> statistics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+                    return new InstrumentedDataSource(dataSource, statistics.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
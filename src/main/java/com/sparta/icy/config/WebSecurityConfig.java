@@ -1,12 +1,21 @@
 package com.sparta.icy.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparta.icy.jwt.JwtAuthenticationFilter;
 import com.sparta.icy.jwt.JwtAuthorizationFilter;
 import com.sparta.icy.jwt.JwtUtil;
+import com.sparta.icy.security.LoginRateLimiter;
+import com.sparta.icy.security.RateLimitFilter;
+import com.sparta.icy.security.TokenRevocationService;
 import com.sparta.icy.security.UserDetailsServiceImpl;
+import com.sparta.icy.sql.SqlStatsEndpoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.cache.CachesEndpoint;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -14,12 +23,15 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Set;
+
 @Service
 @Configuration
 @EnableWebSecurity
@@ -28,23 +40,35 @@ public class WebSecurityConfig {
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
     private final AuthenticationConfiguration authenticationConfiguration;
+    // BCrypt 는 PasswordEncoderConfig 의 전용 스레드 풀에서 실행됩니다.
+    private final PasswordEncoder passwordEncoder;
+    private final LoginRateLimiter loginRateLimiter;
+    private final ObjectMapper objectMapper;
+    private final TokenRevocationService tokenRevocationService;
+    // 캐시 비우기, SQL 통계 같은 운영용 actuator 엔드포인트를 쓸 수 있는 사용자 (비어 있으면 아무도 못 씀)
+    private final Set<String> actuatorAdmins;
 
-    public WebSecurityConfig(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService, AuthenticationConfiguration authenticationConfiguration) {
+    public WebSecurityConfig(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService, AuthenticationConfiguration authenticationConfiguration,
+                             PasswordEncoder passwordEncoder, LoginRateLimiter loginRateLimiter, ObjectMapper objectMapper,
+                             TokenRevocationService tokenRevocationService,
+                             @Value("${security.actuator.admin-usernames:}") List<String> actuatorAdmins) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
         this.authenticationConfiguration = authenticationConfiguration;
-    }
-
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        this.passwordEncoder = passwordEncoder;
+        this.loginRateLimiter = loginRateLimiter;
+        this.objectMapper = objectMapper;
+        this.tokenRevocationService = tokenRevocationService;
+        this.actuatorAdmins = Set.copyOf(actuatorAdmins);
     }
 
     @Bean
     AuthenticationManager authenticationManager() {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userDetailsService);
-        provider.setPasswordEncoder(passwordEncoder());
+        provider.setPasswordEncoder(passwordEncoder);
+        // cost 가 바뀐 해시는 로그인 성공 시 새 cost 로 다시 저장합니다.
+        provider.setUserDetailsPasswordService(userDetailsService);
         return new ProviderManager(provider);
     }
 
@@ -57,7 +81,7 @@ public class WebSecurityConfig {
 
     @Bean
     public JwtAuthorizationFilter jwtAuthorizationFilter() {
-        return new JwtAuthorizationFilter(jwtUtil, userDetailsService);
+        return new JwtAuthorizationFilter(jwtUtil, userDetailsService, tokenRevocationService);
     }
 
     @Bean
@@ -73,6 +97,10 @@ public class WebSecurityConfig {
         http.authorizeHttpRequests((authorizeHttpRequests) ->
                 authorizeHttpRequests
                         .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll() // 리소스에 대한 접근 허용
+                        // 캐시 조회/비우기, SQL 통계 조회/초기화는 운영자만
+                        .requestMatchers(EndpointRequest.to(CachesEndpoint.class, SqlStatsEndpoint.class))
+                        .access((authentication, context) -> new AuthorizationDecision(isActuatorAdmin(authentication.get())))
+                        .requestMatchers("/logs/activity").authenticated() // 활동 통계는 로그인한 사용자만
                         .requestMatchers("/users/signup", "/logs/**").permitAll() //
                         .requestMatchers("/boards").permitAll() // 모든 사용자에게 뉴스피드 조회 허용
                         .requestMatchers("/boards/create").authenticated() // 게시물 작성, 수정, 삭제는 인증 필요
@@ -83,8 +111,15 @@ public class WebSecurityConfig {
         // 필터 추가
         http.addFilterBefore(jwtAuthorizationFilter(), JwtAuthenticationFilter.class);
         http.addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+        // 로그인/회원가입 요청 제한은 JWT 필터들보다 먼저 (빈으로 등록하지 않아 서블릿 필터로 중복 등록되지 않습니다)
+        http.addFilterBefore(new RateLimitFilter(loginRateLimiter, objectMapper), JwtAuthorizationFilter.class);
 
 
         return http.build();
     }
+
+    private boolean isActuatorAdmin(Authentication authentication) {
+        return authentication != null && authentication.isAuthenticated()
+                && actuatorAdmins.contains(authentication.getName());
+    }
 }
\ No newline at end of file
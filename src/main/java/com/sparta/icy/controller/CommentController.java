@@ -1,10 +1,16 @@
 package com.sparta.icy.controller;
 
+import com.sparta.icy.dto.BatchResponseDto;
+import com.sparta.icy.dto.CommentPageResponseDto;
 import com.sparta.icy.dto.CommentRequestDto;
 import com.sparta.icy.dto.CommentResponseDto;
+import com.sparta.icy.dto.FeedCommentsResponseDto;
 import com.sparta.icy.service.CommentService;
+import com.sparta.icy.service.ResourceVersion;
+import com.sparta.icy.sql.QueryBudget;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,9 +28,34 @@ public class CommentController {
         return commentService.writeComment(feedId, requestDto);
     }
 
+    @QueryBudget(max = 2)
     @GetMapping("/{feedId}")
-    public List<CommentResponseDto> getComments(@PathVariable Long feedId) {
-        return commentService.getComments(feedId);
+    public ResponseEntity<?> getComments(@PathVariable Long feedId,
+                                         @RequestParam(required = false) Long cursor,
+                                         @RequestParam(defaultValue = "" + CommentService.DEFAULT_PAGE_SIZE) int size,
+                                         @RequestParam(defaultValue = "false") boolean unpaged,
+                                         WebRequest webRequest) {
+        // 버전이 같으면 본문을 만들지 않고 304 로 응답합니다.
+        ResourceVersion version = unpaged
+                ? commentService.getCommentsVersion(feedId)
+                : commentService.getCommentPageVersion(feedId, cursor, size);
+        if (ConditionalResponses.notModified(webRequest, version)) {
+            return null;
+        }
+        if (unpaged) {
+            List<CommentResponseDto> comments = commentService.getComments(feedId);
+            return ConditionalResponses.ok(version, comments);
+        }
+        CommentPageResponseDto page = commentService.getCommentPage(feedId, cursor, size);
+        return ConditionalResponses.ok(version, page);
+    }
+
+    // 여러 게시물의 댓글 일괄 조회: /comments?feedIds=1,2,3 (게시물마다 첫 size 개와 다음 커서)
+    @QueryBudget(max = 2)
+    @GetMapping(params = "feedIds")
+    public BatchResponseDto<FeedCommentsResponseDto> getCommentsByFeedIds(@RequestParam List<Long> feedIds,
+                                                                          @RequestParam(defaultValue = "" + CommentService.DEFAULT_PAGE_SIZE) int size) {
+        return commentService.getCommentsByFeedIds(feedIds, size);
     }
 
     @PutMapping("/{commentId}")
@@ -0,0 +1,26 @@
+package com.sparta.icy.controller;
+
+import com.sparta.icy.service.ResourceVersion;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+// 조건부 GET 처리
+// 304 판단은 ETag(If-None-Match)로만 합니다. Last-Modified 는 행의 updated_at 이라
+// 댓글 수 변경이나 목록에서의 삭제를 반영하지 못하므로 참고용으로만 내려줍니다.
+final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    static boolean notModified(WebRequest webRequest, ResourceVersion version) {
+        return webRequest.checkNotModified(version.getEtag());
+    }
+
+    static <T> ResponseEntity<T> ok(ResourceVersion version, T body) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (version.getLastModified() >= 0) {
+            builder.lastModified(version.getLastModified());
+        }
+        return builder.body(body);
+    }
+}
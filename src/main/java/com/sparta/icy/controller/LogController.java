@@ -1,12 +1,21 @@
 package com.sparta.icy.controller;
 
+import com.sparta.icy.dto.ActivityCountDto;
 import com.sparta.icy.dto.LoginRequestDto;
+import com.sparta.icy.jwt.JwtUtil;
+import com.sparta.icy.security.UserDetailsImpl;
 import com.sparta.icy.service.LogService;
+import com.sparta.icy.sql.QueryBudget;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @RestController
 @RequestMapping("/logs")
 @RequiredArgsConstructor
@@ -21,16 +30,35 @@ public class LogController {
         logService.login(loginRequestDto, response);
         return ResponseEntity.ok("로그인에 성공하였습니다.");
     }
-    @GetMapping("/logout")
-    public ResponseEntity<String> logout(HttpServletResponse response) {
+    // 액세스 토큰이 만료되면 RefreshToken 쿠키로 새 토큰을 받습니다 (비밀번호 불필요).
+    @PostMapping("/refresh")
+    public ResponseEntity<String> refresh(@CookieValue(name = JwtUtil.REFRESH_TOKEN_HEADER, required = false) String refreshToken,
+                                          HttpServletResponse response) {
+        logService.refresh(refreshToken, response);
+        return ResponseEntity.ok("토큰이 재발급되었습니다.");
+    }
+
+    // 모든 액세스 토큰을 폐기하므로 다른 사이트의 링크/이미지로 호출되지 않도록 POST 로만 받습니다.
+    @PostMapping("/logout")
+    public ResponseEntity<String> logout(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                         @CookieValue(name = JwtUtil.REFRESH_TOKEN_HEADER, required = false) String refreshToken,
+                                         HttpServletResponse response) {
 
-        logService.logout(response);
+        logService.logout(userDetails == null ? null : userDetails.getId(), refreshToken, response);
         return ResponseEntity.ok("로그아웃되었습니다.");
     }
 
+    // 일별/action 별 활동 수 (from, to 포함, yyyy-MM-dd)
+    @QueryBudget(max = 3)
+    @GetMapping("/activity")
+    public ResponseEntity<List<ActivityCountDto>> getActivity(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(logService.getActivity(from, to));
+    }
+
     @PostMapping("/addLoginLog")
     public ResponseEntity<String> addLoginLog(@RequestBody String username) {
-        logService.addLog(username, "로그인"); // 로그인 로그 추가
+        logService.addLoginLog(username); // 로그인 로그 추가
         return ResponseEntity.ok("로그 추가 완료");
     }
 }
\ No newline at end of file
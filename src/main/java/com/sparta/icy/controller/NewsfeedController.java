@@ -1,23 +1,50 @@
 package com.sparta.icy.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sparta.icy.bulk.BulkImporter;
+import com.sparta.icy.dto.BatchResponseDto;
+import com.sparta.icy.dto.ImportResultDto;
 import com.sparta.icy.dto.NewsfeedDto;
+import com.sparta.icy.dto.NewsfeedPageResponseDto;
 import com.sparta.icy.dto.NewsfeedResponseDto;
+import com.sparta.icy.dto.NewsfeedSearchResponseDto;
+import com.sparta.icy.security.UserDetailsImpl;
 import com.sparta.icy.service.NewsfeedService;
+import com.sparta.icy.service.ResourceVersion;
+import com.sparta.icy.sql.QueryBudget;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
 @RequestMapping("/boards")
 public class NewsfeedController {
+    public static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final NewsfeedService newsfeedService;
+    private final BulkImporter bulkImporter;
+    private final ObjectWriter exportWriter;
 
     @Autowired
-    public NewsfeedController(NewsfeedService newsfeedService) {
+    public NewsfeedController(NewsfeedService newsfeedService, BulkImporter bulkImporter, ObjectMapper objectMapper) {
         this.newsfeedService = newsfeedService;
+        this.bulkImporter = bulkImporter;
+        // 행마다 flush 하지 않고 버퍼가 찰 때마다 내보냅니다.
+        this.exportWriter = objectMapper.writerFor(NewsfeedResponseDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     @PreAuthorize("isAuthenticated()")
@@ -28,9 +55,57 @@ public class NewsfeedController {
         return ResponseEntity.ok("뉴스피드가 작성되었습니다.");
     }
 
+    @QueryBudget(max = 1)
+    @GetMapping("/search")
+    public NewsfeedSearchResponseDto searchNewsfeeds(@RequestParam String q,
+                                                     @RequestParam(defaultValue = "0") int page,
+                                                     @RequestParam(defaultValue = "" + NewsfeedService.DEFAULT_PAGE_SIZE) int size) {
+        return newsfeedService.searchNewsfeeds(q, page, size);
+    }
+
+    // 전체 게시물 내보내기 (한 줄에 게시물 하나, NDJSON)
+    // 목록을 메모리에 만들지 않고 DB 커서에서 읽는 대로 응답에 씁니다.
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportNewsfeeds() {
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = exportWriter.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                newsfeedService.exportNewsfeeds(newsfeed -> {
+                    try {
+                        exportWriter.writeValue(generator, newsfeed);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
+    // 게시물/댓글 일괄 가져오기 (NDJSON, export 와 같은 형식의 줄 단위)
+    // 작성자는 모두 로그인한 사용자로 저장됩니다. 줄 수에 비례해 SQL 이 나가므로 예산을 두지 않습니다.
+    @QueryBudget(max = Integer.MAX_VALUE, maxRepeats = Integer.MAX_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ImportResultDto importNewsfeeds(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                           InputStream body) throws IOException {
+        return bulkImporter.importNdjson(body, userDetails.getId());
+    }
+
+    @QueryBudget(max = 1)
     @GetMapping("/{id}")
-    public NewsfeedResponseDto getNewsfeed(@PathVariable Long id) {
-        return newsfeedService.getNewsfeed(id);
+    public ResponseEntity<NewsfeedResponseDto> getNewsfeed(@PathVariable Long id, WebRequest webRequest) {
+        // ETag 는 내보낼 본문(캐시 히트면 DB 조회 없음)에서 계산하고, 같으면 304 로 응답합니다.
+        NewsfeedResponseDto newsfeed = newsfeedService.getNewsfeed(id);
+        ResourceVersion version = NewsfeedService.versionOf(newsfeed);
+        if (ConditionalResponses.notModified(webRequest, version)) {
+            return null;
+        }
+        return ConditionalResponses.ok(version, newsfeed);
     }
 
     @PreAuthorize("isAuthenticated()")
@@ -45,13 +120,38 @@ public class NewsfeedController {
         newsfeedService.deleteNewsfeed(feedId);
     }
 
+    // 여러 게시물 일괄 조회: /boards?ids=1,2,3
+    @QueryBudget(max = 1)
+    @GetMapping(params = "ids")
+    public BatchResponseDto<NewsfeedResponseDto> getNewsfeeds(@RequestParam List<Long> ids) {
+        return newsfeedService.getNewsfeeds(ids);
+    }
+
+    @QueryBudget(max = 2)
     @GetMapping
-    public ResponseEntity<?> getAllNewsfeed() {
-        List<NewsfeedResponseDto> newsfeedDtos = newsfeedService.getAllNewsfeed();
-        if (newsfeedDtos.isEmpty()) {
-            return ResponseEntity.ok("먼저 작성하여 소식을 알려보세요!");
-        } else {
-            return ResponseEntity.ok(newsfeedDtos);
+    public ResponseEntity<?> getAllNewsfeed(@RequestParam(required = false) String cursor,
+                                            @RequestParam(defaultValue = "" + NewsfeedService.DEFAULT_PAGE_SIZE) int size,
+                                            @RequestParam(defaultValue = "false") boolean unpaged,
+                                            WebRequest webRequest) {
+        // 버전이 같으면 본문을 만들지 않고 304 로 응답합니다.
+        ResourceVersion version = unpaged
+                ? newsfeedService.getAllNewsfeedVersion()
+                : newsfeedService.getNewsfeedPageVersion(cursor, size);
+        if (ConditionalResponses.notModified(webRequest, version)) {
+            return null;
+        }
+        if (unpaged) {
+            List<NewsfeedResponseDto> newsfeedDtos = newsfeedService.getAllNewsfeed();
+            if (newsfeedDtos.isEmpty()) {
+                return ConditionalResponses.ok(version, "먼저 작성하여 소식을 알려보세요!");
+            }
+            return ConditionalResponses.ok(version, newsfeedDtos);
+        }
+
+        NewsfeedPageResponseDto page = newsfeedService.getNewsfeedPage(cursor, size);
+        if (page.getNewsfeeds().isEmpty() && cursor == null) {
+            return ConditionalResponses.ok(version, "먼저 작성하여 소식을 알려보세요!");
         }
+        return ConditionalResponses.ok(version, page);
     }
-}
\ No newline at end of file
+}
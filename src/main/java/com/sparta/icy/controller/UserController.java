@@ -1,5 +1,6 @@
 package com.sparta.icy.controller;
 
+import com.sparta.icy.dto.BatchResponseDto;
 import com.sparta.icy.dto.SignoutRequestDto;
 import com.sparta.icy.dto.SignupRequestDto;
 import com.sparta.icy.dto.UserProfileResponse;
@@ -7,6 +8,7 @@ import com.sparta.icy.dto.UserUpdateRequest;
 import com.sparta.icy.entity.User;
 import com.sparta.icy.security.UserDetailsImpl;
 import com.sparta.icy.service.UserService;
+import com.sparta.icy.sql.QueryBudget;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +28,7 @@ public class UserController {
     private final UserService userService;
 
 
+    @QueryBudget(max = 1)
     @GetMapping("/{id}")
     public ResponseEntity<UserProfileResponse> getUser(@PathVariable long id) {
         try {
@@ -36,6 +39,13 @@ public class UserController {
         }
     }
 
+    // 여러 회원 일괄 조회: /users?ids=1,2,3
+    @QueryBudget(max = 1)
+    @GetMapping(params = "ids")
+    public BatchResponseDto<UserProfileResponse> getUsers(@RequestParam List<Long> ids) {
+        return userService.getUsers(ids);
+    }
+
     @PostMapping("/signup")
     public String signup(@Valid @RequestBody SignupRequestDto requestDto, BindingResult bindingResult) {
         // Validation 예외처리
@@ -0,0 +1,16 @@
+package com.sparta.icy.dto;
+
+import com.sparta.icy.entity.AuditAction;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 하루 동안 action 별 감사 로그 수
+@Getter
+@AllArgsConstructor
+public class ActivityCountDto {
+    private LocalDate date;
+    private AuditAction action;
+    private long count;
+}
@@ -0,0 +1,64 @@
+package com.sparta.icy.dto;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// 여러 id 를 한 번에 조회하는 API 의 공통 응답: 요청 순서대로의 결과와 찾지 못한 id 목록
+@Getter
+public class BatchResponseDto<T> {
+    public static final int MAX_BATCH_SIZE = 100;
+
+    private final List<T> items;
+    private final List<Long> missingIds;
+
+    public BatchResponseDto(List<T> items, List<Long> missingIds) {
+        this.items = items;
+        this.missingIds = missingIds;
+    }
+
+    // 빈 요청/너무 큰 요청을 막고, 중복을 제거하되 요청 순서는 유지합니다.
+    public static List<Long> distinctIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("조회할 id 가 비어있습니다.");
+        }
+        LinkedHashSet<Long> distinct = new LinkedHashSet<>(ids);
+        distinct.remove(null);
+        if (distinct.isEmpty()) {
+            throw new IllegalArgumentException("조회할 id 가 비어있습니다.");
+        }
+        if (distinct.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH_SIZE + "개까지 조회할 수 있습니다.");
+        }
+        return new ArrayList<>(distinct);
+    }
+
+    // IN 쿼리 결과를 요청 순서대로 다시 정렬하고, 결과에 없는 id 는 missingIds 로 모읍니다.
+    public static <T> BatchResponseDto<T> inRequestOrder(List<Long> ids, Map<Long, T> found) {
+        List<T> items = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            T item = found.get(id);
+            if (item == null) {
+                missingIds.add(id);
+            } else {
+                items.add(item);
+            }
+        }
+        return new BatchResponseDto<>(items, missingIds);
+    }
+
+    public static <T> BatchResponseDto<T> inRequestOrder(List<Long> ids, List<T> found, Function<T, Long> idOf) {
+        Map<Long, T> byId = new HashMap<>(found.size() * 2);
+        for (T item : found) {
+            byId.put(idOf.apply(item), item);
+        }
+        return inRequestOrder(ids, byId);
+    }
+}
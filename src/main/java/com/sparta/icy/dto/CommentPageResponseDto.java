@@ -0,0 +1,18 @@
+package com.sparta.icy.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CommentPageResponseDto {
+    private final List<CommentResponseDto> comments;
+    private final Long nextCursor;
+    private final boolean hasNext;
+
+    public CommentPageResponseDto(List<CommentResponseDto> comments, Long nextCursor) {
+        this.comments = comments;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
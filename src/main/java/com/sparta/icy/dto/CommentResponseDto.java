@@ -15,6 +15,13 @@ public class CommentResponseDto {
     private final LocalDateTime updatedAt;
 
 
+    public CommentResponseDto(Long id, String content, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.content = content;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
     public CommentResponseDto(Comment comment) {
         this.id = comment.getId();
         this.content = comment.getContent();
@@ -0,0 +1,22 @@
+package com.sparta.icy.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+// 게시물 하나의 댓글 첫 페이지 (댓글 일괄 조회용)
+// 다음 댓글은 GET /comments/{feedId}?cursor=nextCursor 로 이어서 받습니다.
+@Getter
+public class FeedCommentsResponseDto {
+    private final Long feedId;
+    private final List<CommentResponseDto> comments;
+    private final Long nextCursor;
+    private final boolean hasNext;
+
+    public FeedCommentsResponseDto(Long feedId, List<CommentResponseDto> comments, Long nextCursor) {
+        this.feedId = feedId;
+        this.comments = comments;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.sparta.icy.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 가져오기 NDJSON 한 줄.
+ * {"type":"post","ref":"p1","userId":1,"title":"제목","recruitmentCount":5,"content":"내용"}
+ * {"type":"comment","postRef":"p1","userId":2,"content":"댓글"}  (이미 있는 게시물이면 "newsfeedId":10)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ImportLineDto {
+    public static final String POST = "post";
+    public static final String COMMENT = "comment";
+
+    private String type;
+    // 같은 파일의 댓글이 postRef 로 가리키는 게시물 이름
+    private String ref;
+    private String postRef;
+    private Long newsfeedId;
+    private Long userId;
+    private String title;
+    private int recruitmentCount;
+    private String content;
+    // 없으면 가져온 시각 (CLI 만, API 가져오기는 무시하고 가져온 시각으로 저장)
+    private LocalDateTime createdAt;
+}
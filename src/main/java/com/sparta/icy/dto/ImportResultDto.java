@@ -0,0 +1,13 @@
+package com.sparta.icy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ImportResultDto {
+    private long posts;
+    private long comments;
+    private long elapsedMillis;
+    private long rowsPerSecond;
+}
@@ -0,0 +1,44 @@
+package com.sparta.icy.dto;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 뉴스피드 목록의 keyset 커서 (created_at, id).
+ * 클라이언트에는 URL-safe Base64 문자열로 전달됩니다.
+ */
+@Getter
+public class NewsfeedCursor {
+    private static final char SEPARATOR = '_';
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public NewsfeedCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static NewsfeedCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            if (idx < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + token);
+            }
+            return new NewsfeedCursor(LocalDateTime.parse(raw.substring(0, idx)), Long.parseLong(raw.substring(idx + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            // IllegalArgumentException(Base64 오류 포함)은 그대로 전달되어 400 으로 응답됩니다.
+            throw new IllegalArgumentException("잘못된 커서입니다: " + token);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.sparta.icy.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class NewsfeedPageResponseDto {
+    private final List<NewsfeedResponseDto> newsfeeds;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public NewsfeedPageResponseDto(List<NewsfeedResponseDto> newsfeeds, String nextCursor) {
+        this.newsfeeds = newsfeeds;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
@@ -18,6 +18,12 @@ public class NewsfeedResponseDto {
     private LocalDateTime created_at;
     private LocalDateTime updated_at;
     private Long user_id;
+    private long commentCount;
+
+    public NewsfeedResponseDto(Long id, String title, int recruitmentCount, String content, LocalDateTime created_at, LocalDateTime updated_at, Long user_id, long commentCount) {
+        this(id, title, recruitmentCount, content, created_at, updated_at, user_id);
+        this.commentCount = commentCount;
+    }
 
     public NewsfeedResponseDto(Long id, String title, int recruitmentCount, String content, LocalDateTime created_at, LocalDateTime updated_at, Long user_id) {
         this.id = id;
@@ -37,5 +43,6 @@ public class NewsfeedResponseDto {
         this.created_at = newsfeed.getCreated_at();
         this.updated_at = newsfeed.getUpdated_at();
         this.user_id = newsfeed.getUser().getId();
+        this.commentCount = newsfeed.getCommentCount();
     }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.sparta.icy.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class NewsfeedSearchResponseDto {
+    private final List<NewsfeedResponseDto> newsfeeds;
+    private final long totalHits;
+    private final int page;
+    private final int size;
+
+    public NewsfeedSearchResponseDto(List<NewsfeedResponseDto> newsfeeds, long totalHits, int page, int size) {
+        this.newsfeeds = newsfeeds;
+        this.totalHits = totalHits;
+        this.page = page;
+        this.size = size;
+    }
+}
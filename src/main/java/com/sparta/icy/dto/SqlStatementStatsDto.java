@@ -0,0 +1,22 @@
+package com.sparta.icy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// /actuator/sqlstats 한 줄: 문장 모양 + 엔드포인트 별 누적 통계 (시간은 ms)
+@Getter
+@AllArgsConstructor
+public class SqlStatementStatsDto {
+    private String shape;
+    private String endpoint;
+    private String parameters;
+    private long count;
+    private long errors;
+    private long rows;
+    private double totalMillis;
+    private double meanMillis;
+    private double p50Millis;
+    private double p95Millis;
+    private double p99Millis;
+    private double maxMillis;
+}
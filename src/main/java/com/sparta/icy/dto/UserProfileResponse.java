@@ -1,11 +1,15 @@
 package com.sparta.icy.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import lombok.Setter;
 
 @Getter
 @Setter
 public class UserProfileResponse {
+    // 일괄 조회 응답에서만 채워집니다.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long id;
     private String username;
     private String nickname;
     private String email;
@@ -17,4 +21,9 @@ public class UserProfileResponse {
         this.email = email;
         this.intro = intro;
     }
+
+    public UserProfileResponse(Long id, String username, String nickname, String email, String intro) {
+        this(username, nickname, email, intro);
+        this.id = id;
+    }
 }
@@ -0,0 +1,29 @@
+package com.sparta.icy.entity;
+
+import lombok.Getter;
+
+// 감사 로그 action. DB 에는 code 만 저장합니다 (AuditActionConverter).
+@Getter
+public enum AuditAction {
+    OTHER((short) 0, "기타"),
+    LOGIN((short) 1, "로그인"),
+    LOGOUT((short) 2, "로그아웃"),
+    SIGNOUT((short) 3, "탈퇴");
+
+    private final short code;
+    private final String description;
+
+    AuditAction(short code, String description) {
+        this.code = code;
+        this.description = description;
+    }
+
+    public static AuditAction fromCode(short code) {
+        for (AuditAction action : values()) {
+            if (action.code == code) {
+                return action;
+            }
+        }
+        return OTHER;
+    }
+}
@@ -1,5 +1,6 @@
 package com.sparta.icy.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -7,9 +8,12 @@ import jakarta.persistence.Id;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
-import java.util.Date;
+import java.time.Instant;
 
+// 감사 로그 원본 행. 쓰기는 AuditLogWriter 가 JDBC 로 모아서 합니다.
 @Entity
 @Getter
 @Setter
@@ -19,15 +23,20 @@ public class Log {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    private String username;
-    private String action;
-    private Date timestamp;
+    // 감사 로그는 사용자를 읽지 않으므로 연관관계 대신 id 만 둡니다.
+    @Column(name = "user_id")
+    private Long userId;
 
-    // 생성자 및 필요한 메서드 추가
+    @Column(nullable = false)
+    private AuditAction action;
 
-    public Log(String username, String action) {
-        this.username = username;
+    @JdbcTypeCode(SqlTypes.TIMESTAMP)
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    public Log(Long userId, AuditAction action) {
+        this.userId = userId;
         this.action = action;
-        this.timestamp = new Date();
+        this.createdAt = Instant.now();
     }
 }
@@ -13,10 +13,13 @@ import java.util.List;
 @Table(name = "newsfeed")
 public class Newsfeed {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "newsfeed_id")
+    @TableGenerator(name = "newsfeed_id", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "newsfeed", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    // 응답에는 작성자 id 만 쓰므로 지연 로딩합니다. (프록시의 getId() 는 조회를 일으키지 않음)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -37,7 +40,14 @@ public class Newsfeed {
     @Column(nullable = false)
     private LocalDateTime updated_at;
 
-    @OneToMany(mappedBy = "newsfeed", cascade = CascadeType.ALL, orphanRemoval = true)
+    // 댓글 수 카운터 (목록 응답에서 comments 컬렉션을 읽지 않기 위함)
+    // NewsfeedRepository.adjustCommentCount 로만 바꿉니다. 게시물 수정이 읽어 둔 값을 덮어쓰지 않도록 insert/update 에서 뺍니다.
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long commentCount;
+
+    // 삭제 시 컬렉션을 읽어 댓글을 하나씩 지우지 않도록 cascade 를 두지 않습니다.
+    // 댓글은 CommentRepository.deleteByNewsfeedId 로 한 번에 삭제합니다.
+    @OneToMany(mappedBy = "newsfeed")
     private List<Comment> comments;
 
 }
\ No newline at end of file
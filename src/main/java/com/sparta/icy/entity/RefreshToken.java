@@ -1,9 +1,13 @@
 package com.sparta.icy.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
@@ -11,13 +15,23 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @Setter
+@NoArgsConstructor
 public class RefreshToken {
+    // 토큰 원문이 아닌 SHA-256 hex
     @Id
-    private String token;
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    @Column(nullable = false)
     private LocalDateTime expiryDate;
 
-}
\ No newline at end of file
+    public RefreshToken(String tokenHash, User user, LocalDateTime expiryDate) {
+        this.tokenHash = tokenHash;
+        this.user = user;
+        this.expiryDate = expiryDate;
+    }
+}
@@ -0,0 +1,29 @@
+package com.sparta.icy.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 사용자별 토큰 폐기 기준 시각 (사용자당 한 행, 가장 최근 값)
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+public class TokenRevocation {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDateTime revokedAt;
+
+    public TokenRevocation(Long userId, LocalDateTime revokedAt) {
+        this.userId = userId;
+        this.revokedAt = revokedAt;
+    }
+}
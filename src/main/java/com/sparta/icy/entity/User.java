@@ -12,7 +12,9 @@ import lombok.Setter;
 @Table(name="users")
 public class User extends TimeStamped {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "users_id")
+    @TableGenerator(name = "users_id", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "users", allocationSize = 50)
     private Long id;
     @Column(nullable = false, unique = true)
     private String username;
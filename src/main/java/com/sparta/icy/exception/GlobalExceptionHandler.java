@@ -1,5 +1,6 @@
 package com.sparta.icy.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -48,4 +49,18 @@ public class GlobalExceptionHandler {
         RestApiException restApiException = new RestApiException(ex.getMessage(), HttpStatus.UNAUTHORIZED.value());
         return new ResponseEntity<>(restApiException, HttpStatus.UNAUTHORIZED);
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler({PasswordHashingBusyException.class})
+    public ResponseEntity<RestApiException> passwordHashingBusyExceptionHandler(PasswordHashingBusyException ex) {
+        RestApiException restApiException = new RestApiException(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE.value());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(restApiException);
+    }
+
+    @ExceptionHandler({InvalidRefreshTokenException.class})
+    public ResponseEntity<RestApiException> invalidRefreshTokenExceptionHandler(InvalidRefreshTokenException ex) {
+        RestApiException restApiException = new RestApiException(ex.getMessage(), HttpStatus.UNAUTHORIZED.value());
+        return new ResponseEntity<>(restApiException, HttpStatus.UNAUTHORIZED);
+    }
+}
@@ -0,0 +1,8 @@
+package com.sparta.icy.exception;
+
+// 리프레시 토큰이 없거나, 만료됐거나, 이미 사용(교체)된 경우
+public class InvalidRefreshTokenException extends RuntimeException {
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
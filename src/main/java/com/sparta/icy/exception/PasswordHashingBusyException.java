@@ -0,0 +1,8 @@
+package com.sparta.icy.exception;
+
+// 비밀번호 해시 작업 대기열이 가득 찼거나 제한 시간 안에 처리하지 못한 경우
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
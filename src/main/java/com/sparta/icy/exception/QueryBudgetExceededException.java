@@ -0,0 +1,8 @@
+package com.sparta.icy.exception;
+
+// 핸들러가 선언한 SQL 문장 수나 같은 문장 반복 한도를 넘은 경우 (테스트 프로필에서만 던집니다)
+public class QueryBudgetExceededException extends RuntimeException {
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -2,12 +2,16 @@ package com.sparta.icy.jwt;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparta.icy.dto.LoginRequestDto;
+import com.sparta.icy.exception.PasswordHashingBusyException;
 import com.sparta.icy.security.UserDetailsImpl;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -36,6 +40,9 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
                             null
                     )
             );
+        } catch (PasswordHashingBusyException e) {
+            // 비밀번호 검증 대기열이 가득 찬 경우: 인증 실패(401)가 아니라 503 으로 응답합니다.
+            throw new AuthenticationServiceException(e.getMessage(), e);
         } catch (IOException e) {
             log.error(e.getMessage());
             throw new RuntimeException(e.getMessage());
@@ -45,15 +52,20 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     @Override
     protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain chain, Authentication authResult) throws IOException, ServletException {
         log.info("로그인 성공 및 JWT 생성");
-        String username = ((UserDetailsImpl) authResult.getPrincipal()).getUsername();
+        UserDetailsImpl userDetails = (UserDetailsImpl) authResult.getPrincipal();
 
-        String token = jwtUtil.createToken(username, true);
+        String token = jwtUtil.createToken(userDetails.getId(), userDetails.getUsername());
         jwtUtil.addJwtToCookie(token, response);
     }
 
     @Override
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) throws IOException, ServletException {
         log.info("로그인 실패");
+        if (failed.getCause() instanceof PasswordHashingBusyException) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
         response.setStatus(401);
     }
 }
@@ -1,7 +1,9 @@
 package com.sparta.icy.jwt;
 
+import com.sparta.icy.security.TokenRevocationService;
 import com.sparta.icy.security.UserDetailsImpl;
 import com.sparta.icy.security.UserDetailsServiceImpl;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,30 +22,45 @@ import java.io.IOException;
 @Slf4j(topic = "JWT 검증 및 인가")
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
+    private static final String REFRESH_PATH = "/logs/refresh";
+
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
+    private final TokenRevocationService tokenRevocationService;
 
-    public JwtAuthorizationFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService) {
+    public JwtAuthorizationFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService,
+                                  TokenRevocationService tokenRevocationService) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.tokenRevocationService = tokenRevocationService;
+    }
+
+    // 재발급 요청은 만료된 액세스 토큰을 달고 오므로 검증하지 않습니다 (리프레시 토큰으로 확인).
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return REFRESH_PATH.equals(path);
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain) throws ServletException, IOException {
 
-        String tokenValue = jwtUtil.getTokenFromRequest(req);
+        // 헤더/쿠키에서 토큰을 한 번 꺼내고, 파싱과 서명 검증도 한 번만 합니다.
+        String tokenValue = jwtUtil.resolveToken(req);
 
         if (StringUtils.hasText(tokenValue)) {
-            // JWT 토큰 substring
-            tokenValue = jwtUtil.substringToken(tokenValue);
-            log.info(tokenValue);
-
-            if (!jwtUtil.validateToken(tokenValue)) {
+            Claims claims = jwtUtil.verify(tokenValue);
+            if (claims == null) {
                 log.error("Token Error");
                 return;
             }
+            // 로그아웃/탈퇴 전에 발급된 토큰 (클라이언트는 /logs/refresh 로 새 토큰을 받습니다)
+            if (tokenRevocationService.isRevoked(claims)) {
+                res.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                return;
+            }
 
-            String username = jwtUtil.getUsernameFromRequest(req);
+            String username = claims.get("username", String.class);
 
             try {
                 setAuthentication(username);
@@ -65,9 +82,9 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         SecurityContextHolder.setContext(context);
     }
 
-    // 인증 객체 생성
+    // 인증 객체 생성 (요청마다 DB 를 조회하지 않도록 캐시된 사용자 정보 사용)
     private Authentication createAuthentication(String username) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        UserDetails userDetails = userDetailsService.loadCachedUserByUsername(username);
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
 
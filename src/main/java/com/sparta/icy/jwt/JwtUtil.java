@@ -15,7 +15,9 @@ import org.springframework.util.StringUtils;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
 
@@ -27,10 +29,24 @@ public class JwtUtil {
     public static final String REFRESH_TOKEN_HEADER = "RefreshToken";
     // Token 식별자
     public static final String BEARER_PREFIX = "Bearer ";
+    // 사용자 id 클레임 (토큰 폐기 확인용)
+    public static final String USER_ID_CLAIM = "uid";
+    private static final long ACCESS_TOKEN_TIME = 1800000L;
+    // 발급할 수 있는 가장 긴 토큰 수명 (폐기 기록은 이 시간이 지나면 필요 없습니다)
+    // 리프레시 토큰은 JWT 가 아니라 RefreshTokenService 가 관리하므로 액세스 토큰 수명이 곧 최대입니다.
+    public static final Duration MAX_TOKEN_LIFETIME = Duration.ofMillis(ACCESS_TOKEN_TIME);
 
     @Value("${jwt.secret.key}") // Base64 Encode 한 SecretKey
     private String secretKey;
+    // 검증 캐시 크기 / 최대 보관 시간 (토큰 만료 시각이 더 빠르면 그때 사라집니다)
+    @Value("${jwt.verified-cache.maximum-size:10000}")
+    private long verifiedCacheSize = 10000;
+    @Value("${jwt.verified-cache.ttl:5m}")
+    private Duration verifiedCacheTtl = Duration.ofMinutes(5);
     private Key key;
+    // 파서는 불변이고 스레드 안전하므로 한 번만 만들어 재사용합니다.
+    private JwtParser parser;
+    private VerifiedTokenCache verifiedTokens;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
     // 로그 설정
@@ -40,16 +56,22 @@ public class JwtUtil {
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        parser = Jwts.parserBuilder().setSigningKey(key).build();
+        verifiedTokens = new VerifiedTokenCache(verifiedCacheSize, verifiedCacheTtl);
     }
 
-    // 토큰 생성
-    public String createToken(String username, boolean isAccessToken) {
+    // 액세스 토큰 생성
+    public String createToken(String username) {
+        return createToken(null, username);
+    }
+
+    public String createToken(Long userId, String username) {
         Date date = new Date();
-        Long TOKEN_TIME = isAccessToken ? 1800000L : 1209600000L;
         return BEARER_PREFIX +
                 Jwts.builder()
                         .claim("username", username) // 사용자 식별자값(ID)
-                        .setExpiration(new Date(date.getTime() + TOKEN_TIME)) // 만료 시간
+                        .claim(USER_ID_CLAIM, userId) // null 이면 넣지 않음
+                        .setExpiration(new Date(date.getTime() + ACCESS_TOKEN_TIME)) // 만료 시간
                         .setIssuedAt(date) // 발급일
                         .signWith(key, signatureAlgorithm) // 암호화 알고리즘
                         .compact();
@@ -70,20 +92,20 @@ public class JwtUtil {
         }
     }
 
-    // JWT 토큰 substring
-    public String substringToken(String tokenValue) {
-        if (StringUtils.hasText(tokenValue) && tokenValue.startsWith(BEARER_PREFIX)) {
-            return tokenValue.substring(7);
+    // 토큰을 한 번만 파싱/서명 검증하고 claims 를 돌려줍니다. 유효하지 않으면 null
+    // 최근에 검증한 토큰은 캐시된 claims 를 그대로 씁니다.
+    public Claims verify(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+        Claims cached = verifiedTokens.get(token);
+        if (cached != null) {
+            return cached;
         }
-        logger.error("Not Found Token");
-        throw new NullPointerException("Not Found Token");
-    }
-
-    // 토큰 검증
-    public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            verifiedTokens.put(token, claims);
+            return claims;
         } catch (SecurityException | MalformedJwtException | SignatureException e) {
             logger.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
         } catch (ExpiredJwtException e) {
@@ -93,42 +115,32 @@ public class JwtUtil {
         } catch (IllegalArgumentException e) {
             logger.error("JWT claims is empty, 잘못된 JWT 토큰 입니다.");
         }
-        return false;
-    }
-
-    // 토큰에서 사용자 정보 가져오기
-    public Claims getUserInfoFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return null;
     }
 
-    public String getTokenFromRequest(HttpServletRequest req) {
+    // 요청에서 접두사를 뗀 토큰을 꺼냅니다.
+    // Authorization 헤더(Bearer)를 먼저 보고, 없으면 쿠키를 봅니다. 쿠키는 인코딩된 경우에만 디코딩합니다.
+    public String resolveToken(HttpServletRequest req) {
+        String header = req.getHeader(AUTHORIZATION_HEADER);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            return header.substring(BEARER_PREFIX.length());
+        }
         Cookie[] cookies = req.getCookies();
-        if (cookies != null) {
-            for (Cookie cookie : cookies) {
-                if (cookie.getName().equals(AUTHORIZATION_HEADER)) {
-                    try {
-                        return URLDecoder.decode(cookie.getValue(), "UTF-8");
-                    } catch (UnsupportedEncodingException e) {
-                        return null;
-                    }
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (cookie.getName().equals(AUTHORIZATION_HEADER)) {
+                String value = cookie.getValue();
+                if (value != null && value.indexOf('%') >= 0) {
+                    value = URLDecoder.decode(value, StandardCharsets.UTF_8);
                 }
+                return value != null && value.startsWith(BEARER_PREFIX) ? value.substring(BEARER_PREFIX.length()) : null;
             }
         }
         return null;
     }
 
-    // HttpServletRequest에서 username 추출하는 메서드
-    public String getUsernameFromRequest(HttpServletRequest request) {
-        String token = getTokenFromRequest(request);
-        if (token != null && token.startsWith(BEARER_PREFIX)) {
-            String tokenWithoutPrefix = token.substring(BEARER_PREFIX.length());
-            Claims claims = getUserInfoFromToken(tokenWithoutPrefix);
-            return claims.get("username", String.class);
-        }
-        return null;
-
-    }
-
     public void addRefreshTokenToCookie(String refreshToken, HttpServletResponse res) {
         try {
             refreshToken = URLEncoder.encode(refreshToken, "utf-8").replaceAll("\\+", "%20");
@@ -0,0 +1,77 @@
+package com.sparta.icy.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * 최근에 서명 검증을 통과한 토큰의 claims 캐시.
+ * 토큰 원문 대신 SHA-256 다이제스트를 키로 쓰므로 메모리에 토큰이 남지 않고,
+ * 한 글자라도 다른 토큰은 다른 키가 되어 다시 전체 검증을 거칩니다.
+ * 항목은 maxTtl 과 토큰 만료 시각 중 빠른 쪽에 사라집니다.
+ */
+public class VerifiedTokenCache {
+
+    private final Cache<ByteBuffer, Claims> cache;
+
+    public VerifiedTokenCache(long maximumSize, Duration maxTtl) {
+        long maxTtlNanos = maxTtl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<ByteBuffer, Claims>() {
+                    @Override
+                    public long expireAfterCreate(ByteBuffer key, Claims claims, long currentTime) {
+                        Date expiration = claims.getExpiration();
+                        if (expiration == null) {
+                            return maxTtlNanos;
+                        }
+                        long untilExpiry = Duration.ofMillis(expiration.getTime() - System.currentTimeMillis()).toNanos();
+                        return Math.max(0L, Math.min(maxTtlNanos, untilExpiry));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public Claims get(String token) {
+        Claims claims = cache.getIfPresent(digest(token));
+        // 만료 시각이 지난 항목은 Caffeine 이 곧 치우지만, 그 사이에도 통과시키지 않습니다.
+        if (claims != null && claims.getExpiration() != null && claims.getExpiration().getTime() <= System.currentTimeMillis()) {
+            return null;
+        }
+        return claims;
+    }
+
+    public void put(String token, Claims claims) {
+        cache.put(digest(token), claims);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
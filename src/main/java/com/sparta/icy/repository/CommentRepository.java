@@ -1,12 +1,72 @@
 package com.sparta.icy.repository;
 
+import com.sparta.icy.dto.CommentResponseDto;
 import com.sparta.icy.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long>  {
     List<Comment> findByNewsfeedId(Long id);
+
+    // 응답용 조회는 DTO 로 바로 받아 작성자/게시물 엔티티를 불러오지 않습니다.
+    String RESPONSE_PROJECTION = "select new com.sparta.icy.dto.CommentResponseDto(" +
+            "c.id, c.content, c.created_at, c.updated_at) from Comment c ";
+
+    @Query(RESPONSE_PROJECTION + "where c.newsfeed.id = :feedId order by c.id")
+    List<CommentResponseDto> findResponsesByNewsfeedId(@Param("feedId") Long feedId);
+
+    // (feed_id, id) 인덱스를 따라 커서 이후 댓글만 조회
+    @Query(RESPONSE_PROJECTION + "where c.newsfeed.id = :feedId and c.id > :afterId order by c.id")
+    List<CommentResponseDto> findPageByNewsfeedId(@Param("feedId") Long feedId, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 조건부 GET 판단용: 댓글 id 와 수정 시각만 읽습니다.
+    interface VersionRow {
+        Long getId();
+
+        LocalDateTime getUpdatedAt();
+    }
+
+    @Query("select c.id as id, c.updated_at as updatedAt from Comment c where c.newsfeed.id = :feedId order by c.id")
+    List<VersionRow> findVersionsByNewsfeedId(@Param("feedId") Long feedId);
+
+    @Query("select c.id as id, c.updated_at as updatedAt from Comment c " +
+            "where c.newsfeed.id = :feedId and c.id > :afterId order by c.id")
+    List<VersionRow> findVersionPageByNewsfeedId(@Param("feedId") Long feedId, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 댓글 일괄 조회용: 게시물 id 를 함께 읽어 게시물별로 묶습니다.
+    interface FeedCommentRow {
+        Long getFeedId();
+
+        Long getId();
+
+        String getContent();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+    }
+
+    // 게시물마다 id 순으로 앞의 perFeed 개만 읽습니다. (댓글이 많은 게시물이 응답을 키우지 않도록)
+    // JPQL 에는 창 함수가 없어 네이티브 쿼리로 씁니다. (MySQL 8, H2 모두 row_number 지원)
+    @Query(value = "select t.feed_id as feedId, t.id as id, t.content as content, " +
+            "t.created_at as createdAt, t.updated_at as updatedAt " +
+            "from (select c.feed_id, c.id, c.content, c.created_at, c.updated_at, " +
+            "row_number() over (partition by c.feed_id order by c.id) as rn " +
+            "from comment c where c.feed_id in (:feedIds)) t " +
+            "where t.rn <= :perFeed order by t.feed_id, t.id", nativeQuery = true)
+    List<FeedCommentRow> findFirstRowsByNewsfeedIdIn(@Param("feedIds") Collection<Long> feedIds, @Param("perFeed") int perFeed);
+
+    // 게시물 삭제용: 댓글을 엔티티로 읽지 않고 delete 한 번으로 지웁니다.
+    @Modifying(flushAutomatically = true)
+    @Query("delete from Comment c where c.newsfeed.id = :feedId")
+    int deleteByNewsfeedId(@Param("feedId") Long feedId);
 }
@@ -1,9 +1,103 @@
 package com.sparta.icy.repository;
 
+import com.sparta.icy.dto.NewsfeedResponseDto;
 import com.sparta.icy.entity.Newsfeed;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface NewsfeedRepository extends JpaRepository<Newsfeed, Long> {
+
+    // 조회 전용 쿼리는 엔티티 대신 DTO 로 바로 받습니다.
+    // n.user.id 는 newsfeed.user_id 외래키 컬럼을 그대로 읽으므로 users 조인이 발생하지 않습니다.
+    String RESPONSE_PROJECTION = "select new com.sparta.icy.dto.NewsfeedResponseDto(" +
+            "n.id, n.title, n.recruitmentCount, n.content, n.created_at, n.updated_at, n.user.id, n.commentCount) " +
+            "from Newsfeed n ";
+
+    @Query(RESPONSE_PROJECTION + "where n.id = :id")
+    Optional<NewsfeedResponseDto> findResponseById(@Param("id") Long id);
+
+    @Query(RESPONSE_PROJECTION + "order by n.created_at desc, n.id desc")
+    List<NewsfeedResponseDto> findAllResponses();
+
+    @Query(RESPONSE_PROJECTION + "where n.id in :ids")
+    List<NewsfeedResponseDto> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 내보내기용 스트림: 한 번에 EXPORT_FETCH_SIZE 행씩 가져오고, DTO 로 받으므로 영속성 컨텍스트에 쌓이지 않습니다.
+    // MySQL 은 접속 URL 에 useCursorFetch=true 가 있어야 fetch size 만큼씩 서버 커서로 읽습니다.
+    int EXPORT_FETCH_SIZE = 500;
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(RESPONSE_PROJECTION + "order by n.id")
+    Stream<NewsfeedResponseDto> streamAllResponses();
+
+    @Query("select n.id from Newsfeed n where n.id in :ids")
+    List<Long> findExistingIdsIn(@Param("ids") Collection<Long> ids);
+
+    // 첫 페이지: 최신순 (created_at, id) 내림차순
+    @Query(RESPONSE_PROJECTION + "order by n.created_at desc, n.id desc")
+    List<NewsfeedResponseDto> findLatest(Pageable pageable);
+
+    // 다음 페이지: 커서 (created_at, id) 보다 오래된 게시물
+    // created_at <= :createdAt 조건을 먼저 두어 (created_at, id) 인덱스의 범위 탐색을 그대로 쓸 수 있게 합니다.
+    @Query(RESPONSE_PROJECTION +
+            "where n.created_at <= :createdAt and (n.created_at < :createdAt or n.id < :id) " +
+            "order by n.created_at desc, n.id desc")
+    List<NewsfeedResponseDto> findLatestBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 조건부 GET 판단용: 본문 없이 응답 버전을 결정하는 컬럼만 읽습니다.
+    interface VersionRow {
+        Long getId();
+
+        LocalDateTime getUpdatedAt();
+
+        long getCommentCount();
+    }
+
+    String VERSION_PROJECTION = "select n.id as id, n.updated_at as updatedAt, n.commentCount as commentCount from Newsfeed n ";
+
+    @Query(VERSION_PROJECTION + "order by n.created_at desc, n.id desc")
+    List<VersionRow> findAllVersions();
+
+    @Query(VERSION_PROJECTION + "order by n.created_at desc, n.id desc")
+    List<VersionRow> findLatestVersions(Pageable pageable);
+
+    @Query(VERSION_PROJECTION +
+            "where n.created_at <= :createdAt and (n.created_at < :createdAt or n.id < :id) " +
+            "order by n.created_at desc, n.id desc")
+    List<VersionRow> findLatestVersionsBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 댓글 수 카운터 증감 (읽고 쓰지 않고 DB 에서 원자적으로 갱신)
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update Newsfeed n set n.commentCount = n.commentCount + :delta where n.id = :id")
+    int adjustCommentCount(@Param("id") Long id, @Param("delta") long delta);
+
+    // 검색 색인 재구성용: id 순서로 제목/내용만 읽습니다.
+    interface SearchRow {
+        Long getId();
+        String getTitle();
+        String getContent();
+    }
+
+    @Query("select n.id as id, n.title as title, n.content as content from Newsfeed n " +
+            "where n.id > :afterId order by n.id")
+    List<SearchRow> findSearchRows(@Param("afterId") Long afterId, Pageable pageable);
 }
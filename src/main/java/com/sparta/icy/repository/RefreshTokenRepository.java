@@ -1,14 +1,38 @@
 package com.sparta.icy.repository;
 
 import com.sparta.icy.entity.RefreshToken;
-import com.sparta.icy.entity.User;
+import com.sparta.icy.token.StoredRefreshToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
-    Optional<RefreshToken> findByToken(String token);
-    Optional<RefreshToken> findByUser(User user);
-    void deleteByToken(String token);
-    void deleteByUser(User user);
+
+    // 기본키 조회 한 번, User 는 읽지 않습니다.
+    @Query("select new com.sparta.icy.token.StoredRefreshToken(r.tokenHash, r.user.id, r.expiryDate) " +
+            "from RefreshToken r where r.tokenHash = :tokenHash")
+    Optional<StoredRefreshToken> findStoredByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    // idx_refresh_token_expiry_date 범위 스캔으로 만료된 키를 한 청크만 가져옵니다.
+    @Query("select r.tokenHash from RefreshToken r where r.expiryDate <= :now order by r.expiryDate")
+    List<String> findExpiredHashes(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.tokenHash in :tokenHashes")
+    int deleteByTokenHashIn(@Param("tokenHashes") Collection<String> tokenHashes);
 }
@@ -0,0 +1,21 @@
+package com.sparta.icy.repository;
+
+import com.sparta.icy.entity.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+
+    List<TokenRevocation> findByRevokedAtAfter(LocalDateTime since);
+
+    @Transactional
+    @Modifying
+    @Query("delete from TokenRevocation t where t.revokedAt < :cutoff")
+    int deleteByRevokedAtBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,10 +1,20 @@
 package com.sparta.icy.repository;
 
+import com.sparta.icy.dto.UserProfileResponse;
 import com.sparta.icy.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
+
+    // 일괄 조회용: 탈퇴한 회원은 결과에서 제외합니다.
+    @Query("select new com.sparta.icy.dto.UserProfileResponse(u.id, u.username, u.nickname, u.email, u.intro) " +
+            "from User u where u.id in :ids and u.status <> :excludedStatus")
+    List<UserProfileResponse> findProfilesByIdIn(@Param("ids") Collection<Long> ids, @Param("excludedStatus") String excludedStatus);
 }
@@ -0,0 +1,51 @@
+package com.sparta.icy.routing;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 방금 쓰기를 커밋한 사용자의 읽기를 window 동안 primary 로 보냅니다 (read-your-writes).
+ * 인스턴스 메모리에만 있으므로 여러 인스턴스면 같은 사용자의 요청이 같은 인스턴스로 가야 완전히 보장됩니다.
+ */
+public class ReadYourWritesTracker {
+
+    private final ConcurrentHashMap<Long, Long> pinnedUntil = new ConcurrentHashMap<>();
+    private final long windowMillis;
+    private final LongSupplier clock;
+
+    public ReadYourWritesTracker(Duration window) {
+        this(window, System::currentTimeMillis);
+    }
+
+    ReadYourWritesTracker(Duration window, LongSupplier clock) {
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+    }
+
+    public void pin(Long userId) {
+        pinnedUntil.put(userId, clock.getAsLong() + windowMillis);
+    }
+
+    public boolean isPinned(Long userId) {
+        Long until = pinnedUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until > clock.getAsLong()) {
+            return true;
+        }
+        pinnedUntil.remove(userId, until);
+        return false;
+    }
+
+    // 다시 읽지 않는 사용자의 항목도 남지 않도록 주기적으로 지웁니다 (ReplicaLagMonitor).
+    public void purgeExpired() {
+        long now = clock.getAsLong();
+        pinnedUntil.values().removeIf(until -> until <= now);
+    }
+
+    int size() {
+        return pinnedUntil.size();
+    }
+}
@@ -0,0 +1,112 @@
+package com.sparta.icy.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * replica 지연을 heartbeat 로 재고, 허용 범위 안의 replica 만 읽기에 쓰도록 라우터에 알립니다.
+ * primary 의 replication_heartbeat.beat_at 을 현재 시각으로 갱신한 뒤 각 replica 에서 읽어,
+ * 그 차이가 max-lag 이하인 replica 만 사용합니다. 읽기에 실패하거나 지연이 크면 primary 로 돌아갑니다.
+ * MySQL 의 Seconds_Behind_Source 는 초 단위이고 복제 스레드가 멈추면 NULL 이 되어, DB 종류와 무관한 heartbeat 를 씁니다.
+ */
+@Slf4j(topic = "replica 지연")
+public class ReplicaLagMonitor {
+
+    static final String UPDATE_SQL = "UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1";
+    static final String SELECT_SQL = "SELECT beat_at FROM replication_heartbeat WHERE id = 1";
+
+    private final ReplicaRoutingDataSource routing;
+    private final ReadYourWritesTracker tracker;
+    private final JdbcTemplate primary;
+    private final List<JdbcTemplate> replicas;
+    private final long maxLagMillis;
+    private final LongSupplier clock;
+    // 마지막으로 잰 지연 (ms), 읽기 실패는 -1
+    private final AtomicLongArray lagMillis;
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routing, ReadYourWritesTracker tracker, Duration maxLag,
+                             MeterRegistry meterRegistry) {
+        this(routing, tracker, maxLag, meterRegistry, System::currentTimeMillis);
+    }
+
+    ReplicaLagMonitor(ReplicaRoutingDataSource routing, ReadYourWritesTracker tracker, Duration maxLag,
+                      MeterRegistry meterRegistry, LongSupplier clock) {
+        this.routing = routing;
+        this.tracker = tracker;
+        this.primary = new JdbcTemplate(routing.getPrimary());
+        this.replicas = new ArrayList<>();
+        for (DataSource replica : routing.getReplicas()) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(replica);
+            jdbcTemplate.setQueryTimeout((int) Math.max(1, maxLag.toSeconds()));
+            replicas.add(jdbcTemplate);
+        }
+        this.maxLagMillis = maxLag.toMillis();
+        this.clock = clock;
+        this.lagMillis = new AtomicLongArray(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            int index = i;
+            lagMillis.set(i, -1);
+            Gauge.builder("datasource.replica.lag", lagMillis, lags -> lags.get(index) / 1000.0)
+                    .description("replica 복제 지연(초), 측정 실패는 음수")
+                    .tag("replica", ReplicaRoutingDataSource.replicaKey(index))
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval-ms:1000}")
+    public void check() {
+        long now = clock.getAsLong();
+        try {
+            primary.update(UPDATE_SQL, new Timestamp(now));
+        } catch (DataAccessException e) {
+            // primary 에 못 쓰면 replica 지연도 알 수 없으므로 모두 빼고 다음 주기에 다시 봅니다.
+            log.warn("heartbeat 갱신 실패: {}", e.getMessage());
+            routing.setHealthyReplicas(new int[0]);
+            return;
+        }
+        int[] healthy = new int[replicas.size()];
+        int count = 0;
+        for (int i = 0; i < replicas.size(); i++) {
+            long lag = measure(i, now);
+            lagMillis.set(i, lag);
+            if (lag >= 0 && lag <= maxLagMillis) {
+                healthy[count++] = i;
+            }
+        }
+        int[] previous = routing.getHealthyReplicas();
+        int[] current = Arrays.copyOf(healthy, count);
+        if (!Arrays.equals(previous, current)) {
+            log.info("읽기에 쓰는 replica: {} → {}", Arrays.toString(previous), Arrays.toString(current));
+        }
+        routing.setHealthyReplicas(current);
+        tracker.purgeExpired();
+    }
+
+    private long measure(int index, long now) {
+        try {
+            Timestamp beatAt = replicas.get(index).queryForObject(SELECT_SQL, Timestamp.class);
+            return beatAt == null ? -1 : Math.max(0, now - beatAt.getTime());
+        } catch (DataAccessException e) {
+            log.warn("{} heartbeat 읽기 실패: {}", ReplicaRoutingDataSource.replicaKey(index), e.getMessage());
+            return -1;
+        }
+    }
+
+    long lagMillis(int index) {
+        return lagMillis.get(index);
+    }
+}
@@ -0,0 +1,170 @@
+package com.sparta.icy.routing;
+
+import com.sparta.icy.security.UserDetailsImpl;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * primary 와 replica 들 사이에서 트랜잭션마다 커넥션을 고르는 DataSource.
+ * 아래를 모두 만족할 때만 replica 로 보내고, 나머지는 모두 primary 입니다.
+ * - readOnly 트랜잭션이고, 가장 바깥 트랜잭션 이름(@Transactional 메서드)이 replicaReadPrefixes 로 시작
+ *   (repository 기본 트랜잭션 같은 단독 조회는 primary 에 남습니다)
+ * - 트랜잭션 이름이 primaryReads 에 없음 (결과가 모든 사용자가 공유하는 캐시/스냅샷에 들어가는 조회는
+ *   지연된 행이 캐시 수명 동안 남지 않도록 primary 에서 읽습니다)
+ * - 현재 사용자가 최근 쓰기로 primary 에 고정되어 있지 않음 (ReadYourWritesTracker)
+ * - 지연이 허용 범위 안인 replica 가 있음 (ReplicaLagMonitor)
+ * 트랜잭션 시작 시점에는 readOnly 여부를 알 수 없으므로 LazyConnectionDataSourceProxy 로
+ * 첫 문장을 실행할 때 커넥션을 고릅니다.
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final Router router;
+
+    private ReplicaRoutingDataSource(Router router) {
+        super(router);
+        this.router = router;
+    }
+
+    public static ReplicaRoutingDataSource create(DataSource primary, List<DataSource> replicas,
+                                                  ReadYourWritesTracker tracker, List<String> replicaReadPrefixes,
+                                                  Collection<String> primaryReads) {
+        Router router = new Router(primary, replicas, tracker, replicaReadPrefixes, primaryReads);
+        router.afterPropertiesSet();
+        return new ReplicaRoutingDataSource(router);
+    }
+
+    public DataSource getPrimary() {
+        return router.primary;
+    }
+
+    public List<DataSource> getReplicas() {
+        return router.replicas;
+    }
+
+    // 지연이 허용 범위 안인 replica 의 번호들 (ReplicaLagMonitor 가 갱신)
+    public void setHealthyReplicas(int[] indexes) {
+        router.healthy = indexes.clone();
+    }
+
+    int[] getHealthyReplicas() {
+        return router.healthy.clone();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : router.replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (router.primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    static String replicaKey(int index) {
+        return "replica-" + index;
+    }
+
+    private static final class Router extends AbstractRoutingDataSource {
+        private final DataSource primary;
+        private final List<DataSource> replicas;
+        private final List<String> replicaKeys;
+        private final ReadYourWritesTracker tracker;
+        private final List<String> replicaReadPrefixes;
+        private final Set<String> primaryReads;
+        private final AtomicInteger next = new AtomicInteger();
+        // 처음에는 지연을 모르므로 모두 primary
+        private volatile int[] healthy = new int[0];
+
+        private Router(DataSource primary, List<DataSource> replicas, ReadYourWritesTracker tracker,
+                       List<String> replicaReadPrefixes, Collection<String> primaryReads) {
+            this.primary = primary;
+            this.replicas = List.copyOf(replicas);
+            this.tracker = tracker;
+            this.replicaReadPrefixes = List.copyOf(replicaReadPrefixes);
+            this.primaryReads = Set.copyOf(primaryReads);
+            Map<Object, Object> targets = new HashMap<>();
+            targets.put(PRIMARY, primary);
+            List<String> keys = new ArrayList<>(replicas.size());
+            for (int i = 0; i < replicas.size(); i++) {
+                keys.add(replicaKey(i));
+                targets.put(replicaKey(i), replicas.get(i));
+            }
+            this.replicaKeys = keys;
+            setTargetDataSources(targets);
+            setDefaultTargetDataSource(primary);
+        }
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                return PRIMARY;
+            }
+            Long userId = currentUserId();
+            if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                pinAfterCommit(userId);
+                return PRIMARY;
+            }
+            if (!replicaEligible(TransactionSynchronizationManager.getCurrentTransactionName())) {
+                return PRIMARY;
+            }
+            if (userId != null && tracker.isPinned(userId)) {
+                return PRIMARY;
+            }
+            int[] candidates = healthy;
+            if (candidates.length == 0) {
+                return PRIMARY;
+            }
+            return replicaKeys.get(candidates[Math.floorMod(next.getAndIncrement(), candidates.length)]);
+        }
+
+        private boolean replicaEligible(String transactionName) {
+            if (transactionName == null || primaryReads.contains(transactionName)) {
+                return false;
+            }
+            for (String prefix : replicaReadPrefixes) {
+                if (transactionName.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // 커밋이 끝난 시점부터 window 동안 이 사용자의 읽기를 primary 로 보냅니다.
+        private void pinAfterCommit(Long userId) {
+            if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+                return;
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tracker.pin(userId);
+                }
+            });
+        }
+
+        private static Long currentUserId() {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl userDetails) {
+                return userDetails.getId();
+            }
+            return null;
+        }
+    }
+}
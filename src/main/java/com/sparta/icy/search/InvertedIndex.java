@@ -0,0 +1,365 @@
+package com.sparta.icy.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 역색인 + BM25 랭킹.
+ * <p>
+ * 문서는 내부 번호(int)를 순서대로 받고, 각 단어의 포스팅 리스트는 내부 번호 오름차순의 int/short 배열입니다.
+ * 수정은 기존 번호를 삭제 표시하고 새 번호로 다시 넣으며, 삭제 표시가 쌓이면 한 번에 압축합니다.
+ * 검색은 질의어 포스팅 리스트를 병합하며 점수를 계산하므로 문서 수 크기의 버퍼를 만들지 않습니다.
+ */
+public class InvertedIndex {
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int MIN_COMPACT_DELETES = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    // 외부 ID(게시물 id) → 내부 문서 번호
+    private final Map<Long, Integer> docNumbers = new HashMap<>();
+    private long[] externalIds = new long[1024];
+    private int[] lengths = new int[1024];
+    private BitSet deleted = new BitSet();
+    private int nextDoc;
+    private int deletedDocs;
+    private long totalLength;
+
+    public void put(long id, String... fields) {
+        List<String> tokens = tokenize(fields);
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            addInternal(id, tokens);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 이미 색인된 문서는 건드리지 않습니다. (재색인 중 최신 버전을 덮어쓰지 않기 위함)
+    public boolean putIfAbsent(long id, String... fields) {
+        List<String> tokens = tokenize(fields);
+        lock.writeLock().lock();
+        try {
+            if (docNumbers.containsKey(id)) {
+                return false;
+            }
+            addInternal(id, tokens);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docNumbers.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * BM25 점수 순으로 [offset, offset + limit) 구간의 게시물 id 를 반환합니다.
+     */
+    public SearchResult search(String query, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(SearchTokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            int liveDocs = docNumbers.size();
+            if (liveDocs == 0) {
+                return new SearchResult(List.of(), 0);
+            }
+            float avgLength = (float) totalLength / liveDocs;
+
+            // 질의어별 포스팅 커서
+            List<PostingList> lists = new ArrayList<>(terms.size());
+            List<Float> idfs = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list != null) {
+                    lists.add(list);
+                    // 압축 전 삭제 표시된 문서는 liveDocs 에 없으므로 df 에서도 뺍니다.
+                    float df = deletedDocs == 0 ? list.size : list.liveCount(deleted);
+                    idfs.add((float) Math.log(1 + (liveDocs - df + 0.5f) / (df + 0.5f)));
+                }
+            }
+            int q = lists.size();
+            int[] cursor = new int[q];
+            TopK topK = new TopK(offset + limit);
+            long totalHits = 0;
+
+            while (true) {
+                // 커서들 중 가장 작은 문서 번호
+                int doc = Integer.MAX_VALUE;
+                for (int t = 0; t < q; t++) {
+                    PostingList list = lists.get(t);
+                    if (cursor[t] < list.size && list.docs[cursor[t]] < doc) {
+                        doc = list.docs[cursor[t]];
+                    }
+                }
+                if (doc == Integer.MAX_VALUE) {
+                    break;
+                }
+
+                float score = 0;
+                float norm = K1 * (1 - B + B * lengths[doc] / avgLength);
+                for (int t = 0; t < q; t++) {
+                    PostingList list = lists.get(t);
+                    if (cursor[t] < list.size && list.docs[cursor[t]] == doc) {
+                        int tf = list.tfs[cursor[t]];
+                        score += idfs.get(t) * tf * (K1 + 1) / (tf + norm);
+                        cursor[t]++;
+                    }
+                }
+                if (!deleted.get(doc)) {
+                    totalHits++;
+                    topK.offer(doc, score);
+                }
+            }
+
+            int[] ranked = topK.sortedDocs();
+            List<Long> ids = new ArrayList<>(Math.max(0, Math.min(limit, ranked.length - offset)));
+            for (int i = offset; i < ranked.length; i++) {
+                ids.add(externalIds[ranked[i]]);
+            }
+            return new SearchResult(ids, totalHits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<String> tokenize(String... fields) {
+        List<String> tokens = new ArrayList<>();
+        for (String field : fields) {
+            tokens.addAll(SearchTokenizer.tokenize(field));
+        }
+        return tokens;
+    }
+
+    private void addInternal(long id, List<String> tokens) {
+        Map<String, Integer> termFreqs = new HashMap<>();
+        for (String token : tokens) {
+            termFreqs.merge(token, 1, Integer::sum);
+        }
+        int doc = nextDoc++;
+        if (doc == externalIds.length) {
+            externalIds = Arrays.copyOf(externalIds, doc * 2);
+            lengths = Arrays.copyOf(lengths, doc * 2);
+        }
+        externalIds[doc] = id;
+        lengths[doc] = tokens.size();
+        for (Map.Entry<String, Integer> entry : termFreqs.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), k -> new PostingList()).add(doc, entry.getValue());
+        }
+        docNumbers.put(id, doc);
+        totalLength += tokens.size();
+    }
+
+    private void removeInternal(long id) {
+        Integer doc = docNumbers.remove(id);
+        if (doc == null) {
+            return;
+        }
+        deleted.set(doc);
+        deletedDocs++;
+        totalLength -= lengths[doc];
+        if (deletedDocs >= MIN_COMPACT_DELETES && deletedDocs > nextDoc / 4) {
+            compact();
+        }
+    }
+
+    // 삭제 표시된 문서를 포스팅에서 빼고 내부 번호를 다시 매깁니다.
+    private void compact() {
+        int[] remap = new int[nextDoc];
+        int live = 0;
+        for (int doc = 0; doc < nextDoc; doc++) {
+            if (deleted.get(doc)) {
+                remap[doc] = -1;
+            } else {
+                remap[doc] = live;
+                externalIds[live] = externalIds[doc];
+                lengths[live] = lengths[doc];
+                live++;
+            }
+        }
+        Iterator<PostingList> it = postings.values().iterator();
+        while (it.hasNext()) {
+            PostingList list = it.next();
+            list.remap(remap);
+            if (list.size == 0) {
+                it.remove();
+            }
+        }
+        for (Map.Entry<Long, Integer> entry : docNumbers.entrySet()) {
+            entry.setValue(remap[entry.getValue()]);
+        }
+        nextDoc = live;
+        deletedDocs = 0;
+        deleted = new BitSet();
+    }
+
+    public static class SearchResult {
+        private final List<Long> ids;
+        private final long totalHits;
+
+        public SearchResult(List<Long> ids, long totalHits) {
+            this.ids = ids;
+            this.totalHits = totalHits;
+        }
+
+        public List<Long> getIds() {
+            return ids;
+        }
+
+        public long getTotalHits() {
+            return totalHits;
+        }
+    }
+
+    private static final class PostingList {
+        private int[] docs = new int[4];
+        private short[] tfs = new short[4];
+        private int size;
+
+        private void add(int doc, int tf) {
+            if (size == docs.length) {
+                int capacity = size + (size >> 1) + 1;
+                docs = Arrays.copyOf(docs, capacity);
+                tfs = Arrays.copyOf(tfs, capacity);
+            }
+            docs[size] = doc;
+            tfs[size] = (short) Math.min(tf, Short.MAX_VALUE);
+            size++;
+        }
+
+        private int liveCount(BitSet deleted) {
+            int live = 0;
+            for (int i = 0; i < size; i++) {
+                if (!deleted.get(docs[i])) {
+                    live++;
+                }
+            }
+            return live;
+        }
+
+        private void remap(int[] remap) {
+            int live = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = remap[docs[i]];
+                if (doc >= 0) {
+                    docs[live] = doc;
+                    tfs[live] = tfs[i];
+                    live++;
+                }
+            }
+            size = live;
+        }
+    }
+
+    // 점수 상위 K 개를 유지하는 최소 힙 (동점이면 최신 문서 우선)
+    private static final class TopK {
+        private final int k;
+        private final int[] docs;
+        private final float[] scores;
+        private int size;
+
+        private TopK(int k) {
+            this.k = k;
+            this.docs = new int[k];
+            this.scores = new float[k];
+        }
+
+        private boolean less(int i, int j) {
+            return scores[i] < scores[j] || (scores[i] == scores[j] && docs[i] < docs[j]);
+        }
+
+        private void offer(int doc, float score) {
+            if (size < k) {
+                docs[size] = doc;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (score > scores[0] || (score == scores[0] && doc > docs[0])) {
+                docs[0] = doc;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >> 1;
+                if (!less(i, parent)) {
+                    break;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                int right = left + 1;
+                int smallest = i;
+                if (left < size && less(left, smallest)) {
+                    smallest = left;
+                }
+                if (right < size && less(right, smallest)) {
+                    smallest = right;
+                }
+                if (smallest == i) {
+                    return;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            int d = docs[i];
+            docs[i] = docs[j];
+            docs[j] = d;
+            float s = scores[i];
+            scores[i] = scores[j];
+            scores[j] = s;
+        }
+
+        // 점수 내림차순
+        private int[] sortedDocs() {
+            int[] result = new int[size];
+            while (size > 0) {
+                result[size - 1] = docs[0];
+                size--;
+                docs[0] = docs[size];
+                scores[0] = scores[size];
+                siftDown(0);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.sparta.icy.search;
+
+import com.sparta.icy.repository.NewsfeedRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시물 제목/내용 검색 색인.
+ * NewsfeedService 의 작성/수정/삭제에 맞춰 증분 갱신되고, 기동 시 DB 에서 다시 만들어집니다.
+ */
+@Slf4j(topic = "게시물 검색 색인")
+@Component
+public class NewsfeedSearchIndex {
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final NewsfeedRepository newsfeedRepository;
+    // 재색인은 스프링이 관리하는 공용 풀에서 돌려 종료 시 함께 정리되게 합니다.
+    private final TaskExecutor taskExecutor;
+    private final InvertedIndex index = new InvertedIndex();
+
+    // 재색인 중 삭제된 게시물 (재색인이 옛 데이터를 다시 넣지 않도록)
+    private volatile Set<Long> removedDuringRebuild;
+
+    public NewsfeedSearchIndex(NewsfeedRepository newsfeedRepository,
+                               @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) TaskExecutor taskExecutor) {
+        this.newsfeedRepository = newsfeedRepository;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        taskExecutor.execute(this::rebuild);
+    }
+
+    public void rebuild() {
+        removedDuringRebuild = ConcurrentHashMap.newKeySet();
+        long started = System.currentTimeMillis();
+        try {
+            Long afterId = 0L;
+            // 종료 중이면 (풀이 스레드를 인터럽트) 배치 사이에서 멈춥니다.
+            while (!Thread.currentThread().isInterrupted()) {
+                List<NewsfeedRepository.SearchRow> rows =
+                        newsfeedRepository.findSearchRows(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                addFromRebuild(rows);
+                afterId = rows.get(rows.size() - 1).getId();
+            }
+            log.info("검색 색인 완료: {}건, {}ms", index.size(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("검색 색인 실패: {}", e.getMessage(), e);
+        } finally {
+            removedDuringRebuild = null;
+        }
+    }
+
+    private synchronized void addFromRebuild(List<NewsfeedRepository.SearchRow> rows) {
+        Set<Long> removed = removedDuringRebuild;
+        for (NewsfeedRepository.SearchRow row : rows) {
+            if (removed == null || !removed.contains(row.getId())) {
+                index.putIfAbsent(row.getId(), row.getTitle(), row.getContent());
+            }
+        }
+    }
+
+    public synchronized void index(Long id, String title, String content) {
+        index.put(id, title, content);
+    }
+
+    public synchronized void remove(Long id) {
+        index.remove(id);
+        Set<Long> removed = removedDuringRebuild;
+        if (removed != null) {
+            removed.add(id);
+        }
+    }
+
+    public InvertedIndex.SearchResult search(String query, int offset, int limit) {
+        return index.search(query, offset, limit);
+    }
+}
@@ -0,0 +1,61 @@
+package com.sparta.icy.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저.
+ * <p>
+ * 영문/숫자는 단어 단위로 소문자화하고, 한글은 형태소 분석 대신 음절 bigram 으로 자릅니다.
+ * ("스프링부트" → "스프", "프링", "링부", "부트") 한 글자 한글 단어는 그대로 하나의 토큰이 됩니다.
+ */
+public final class SearchTokenizer {
+
+    private SearchTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String s = text.toLowerCase(Locale.ROOT);
+        int n = s.length();
+        int i = 0;
+        while (i < n) {
+            char c = s.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < n && isHangul(s.charAt(i))) {
+                    i++;
+                }
+                addBigrams(s, start, i, tokens);
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < n && Character.isLetterOrDigit(s.charAt(i)) && !isHangul(s.charAt(i))) {
+                    i++;
+                }
+                tokens.add(s.substring(start, i));
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addBigrams(String s, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(s.substring(start, end));
+            return;
+        }
+        for (int j = start; j + 1 < end; j++) {
+            tokens.add(s.substring(j, j + 2));
+        }
+    }
+
+    // 한글 음절(가-힣)
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
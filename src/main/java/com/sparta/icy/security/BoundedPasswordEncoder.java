@@ -0,0 +1,178 @@
+package com.sparta.icy.security;
+
+import com.sparta.icy.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt 해시/검증을 요청 스레드가 아닌 전용 스레드 풀에서 실행하는 PasswordEncoder.
+ * 동시에 해시하는 수를 스레드 수로, 대기 수를 큐 크기로 제한하고,
+ * 큐가 가득 차면 기다리지 않고 바로 PasswordHashingBusyException 을 던집니다.
+ * 로그인 요청이 몰려도 CPU 를 다른 API 와 나눠 쓸 수 있게 하기 위함입니다.
+ * <p>
+ * waitTimeout 은 큐에서 기다리는 시간에만 적용합니다. 실행 중인 BCrypt 는 인터럽트로 멈출 수 없어서,
+ * 이미 시작한 작업을 시간 초과로 포기하면 응답만 503 이 되고 CPU 는 그대로 씁니다.
+ * 그래서 시간이 지났을 때 아직 시작하지 않은 작업만 큐에서 빼고 거절하며, 시작한 작업은 끝날 때까지 기다립니다.
+ */
+@Slf4j(topic = "PasswordEncoder")
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutNanos;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(int strength, int threads, int queueCapacity, Duration waitTimeout, MeterRegistry meterRegistry) {
+        this.strength = strength;
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("password.hash").tag("operation", "encode")
+                .description("BCrypt 해시 실행 시간 (대기 시간 제외)").register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash").tag("operation", "matches")
+                .description("BCrypt 검증 실행 시간 (대기 시간 제외)").register(meterRegistry);
+        this.rejected = Counter.builder("password.hash.rejected")
+                .description("대기열 초과/시간 초과로 거절된 요청 수").register(meterRegistry);
+        Gauge.builder("password.hash.queue.size", executor, e -> e.getQueue().size())
+                .description("실행을 기다리는 해시 작업 수").register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 해시 작업 수").register(meterRegistry);
+        Gauge.builder("password.hash.strength", () -> this.strength)
+                .description("현재 BCrypt cost").register(meterRegistry);
+    }
+
+    /**
+     * 이 서버에서 cost minStrength 해시 한 번에 걸리는 시간을 재고,
+     * targetLatency 를 넘지 않는 가장 큰 cost 를 고릅니다 (cost 가 1 오를 때마다 시간은 두 배).
+     */
+    public static int calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode("calibration"); // JIT 워밍업
+        long start = System.nanoTime();
+        probe.encode("calibration");
+        long elapsed = System.nanoTime() - start;
+
+        int strength = minStrength;
+        while (strength < maxStrength && elapsed * 2 <= targetLatency.toNanos()) {
+            elapsed *= 2;
+            strength++;
+        }
+        log.info("BCrypt cost {} 선택 (예상 {}ms, 목표 {}ms)", strength,
+                TimeUnit.NANOSECONDS.toMillis(elapsed), targetLatency.toMillis());
+        return strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 저장된 해시의 cost 가 현재 cost 보다 낮으면 true (로그인 성공 시 다시 해시합니다)
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Timer timer, Callable<T> task) {
+        // 실행 스레드가 작업을 시작했거나 호출 쪽이 대기를 포기하면 true (둘 중 먼저 잡은 쪽만)
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null; // 큐에 있는 동안 호출 쪽이 포기함
+                }
+                long start = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException("요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+        try {
+            return future.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (claimed.compareAndSet(false, true)) {
+                // 아직 큐에 있음: 실행하지 않고 자리를 비운 뒤 거절합니다.
+                executor.remove((Runnable) future);
+                rejected.increment();
+                throw new PasswordHashingBusyException("요청이 많아 잠시 후 다시 시도해주세요.");
+            }
+            // 이미 실행 중: 멈출 수 없으므로 결과를 기다립니다.
+            return awaitRunning(future);
+        } catch (InterruptedException e) {
+            // 큐에 있으면 빼고, 실행 중이면 끝나도록 둡니다. (결과는 버림)
+            if (claimed.compareAndSet(false, true)) {
+                executor.remove((Runnable) future);
+            }
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("비밀번호 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static <T> T awaitRunning(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("비밀번호 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException(e.getCause());
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,62 @@
+package com.sparta.icy.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 로그인/회원가입 요청 제한 (클라이언트 IP 기준, username 기준 두 가지).
+ * 검사는 RateLimitFilter 가 BCrypt/DB 조회보다 먼저 합니다.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final RateLimiter byIp;
+    private final RateLimiter byUsername;
+    private final Counter rejectedByIp;
+    private final Counter rejectedByUsername;
+
+    public LoginRateLimiter(@Value("${security.rate-limit.ip.permits:30}") int ipPermits,
+                            @Value("${security.rate-limit.ip.burst:10}") int ipBurst,
+                            @Value("${security.rate-limit.username.permits:5}") int usernamePermits,
+                            @Value("${security.rate-limit.username.burst:5}") int usernameBurst,
+                            @Value("${security.rate-limit.period:1m}") Duration period,
+                            @Value("${security.rate-limit.max-keys:100000}") int maxKeys,
+                            MeterRegistry meterRegistry) {
+        this.byIp = new RateLimiter(ipPermits, period, ipBurst, maxKeys);
+        this.byUsername = new RateLimiter(usernamePermits, period, usernameBurst, maxKeys);
+        this.rejectedByIp = Counter.builder("auth.rate-limit.rejected").tag("key", "ip").register(meterRegistry);
+        this.rejectedByUsername = Counter.builder("auth.rate-limit.rejected").tag("key", "username").register(meterRegistry);
+        Gauge.builder("auth.rate-limit.buckets", byIp, RateLimiter::size).tag("key", "ip").register(meterRegistry);
+        Gauge.builder("auth.rate-limit.buckets", byUsername, RateLimiter::size).tag("key", "username").register(meterRegistry);
+    }
+
+    // 허용되면 0, 거절되면 재시도까지 남은 시간(ns)
+    public long tryAcquireIp(String ip) {
+        long wait = byIp.tryAcquire(ip);
+        if (wait > 0) {
+            rejectedByIp.increment();
+        }
+        return wait;
+    }
+
+    public long tryAcquireUsername(String username) {
+        long wait = byUsername.tryAcquire(username);
+        if (wait > 0) {
+            rejectedByUsername.increment();
+        }
+        return wait;
+    }
+
+    // 다 찬 버킷은 없는 것과 같으므로 주기적으로 지워 메모리를 묶어둡니다.
+    @Scheduled(fixedDelayString = "${security.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        byIp.evictIdle();
+        byUsername.evictIdle();
+    }
+}
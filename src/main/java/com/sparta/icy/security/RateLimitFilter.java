@@ -0,0 +1,161 @@
+package com.sparta.icy.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.icy.exception.RestApiException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인/회원가입 요청을 BCrypt 와 DB 조회 전에 제한하는 필터.
+ * 클라이언트 IP 로 먼저 검사하고, 본문의 username 으로 한 번 더 검사합니다.
+ * 본문은 한 번 읽어 두고 뒤쪽 필터/컨트롤러가 다시 읽을 수 있게 넘깁니다.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // POST /login 은 JwtAuthenticationFilter 의 기본 로그인 경로입니다.
+    private static final Set<String> LIMITED_PATHS = Set.of("/logs/login", "/users/signup", "/login");
+    // 로그인/회원가입 본문은 작으므로 이보다 크면 읽지 않고 거절합니다.
+    private static final int MAX_BODY_BYTES = 8 * 1024;
+
+    private final LoginRateLimiter limiter;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(LoginRateLimiter limiter, ObjectMapper objectMapper) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !"POST".equals(request.getMethod()) || !LIMITED_PATHS.contains(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain) throws ServletException, IOException {
+        // 프록시 뒤에서는 server.forward-headers-strategy 로 X-Forwarded-For 의 클라이언트 주소가 들어옵니다.
+        long wait = limiter.tryAcquireIp(req.getRemoteAddr());
+        if (wait > 0) {
+            reject(res, wait);
+            return;
+        }
+
+        byte[] body = req.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) {
+            writeError(res, HttpStatus.PAYLOAD_TOO_LARGE, "요청 본문이 너무 큽니다.");
+            return;
+        }
+        String username = usernameOf(body);
+        if (username != null) {
+            wait = limiter.tryAcquireUsername(username);
+            if (wait > 0) {
+                reject(res, wait);
+                return;
+            }
+        }
+
+        filterChain.doFilter(new CachedBodyRequest(req, body), res);
+    }
+
+    private String usernameOf(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode username = objectMapper.readTree(body).get("username");
+            return username != null && username.isTextual() ? username.asText() : null;
+        } catch (IOException e) {
+            // 형식이 잘못된 본문은 컨트롤러에서 처리하도록 넘깁니다 (IP 제한은 이미 적용됨).
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse res, long waitNanos) throws IOException {
+        long seconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        res.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+        writeError(res, HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. " + seconds + "초 후 다시 시도해주세요.");
+    }
+
+    private void writeError(HttpServletResponse res, HttpStatus status, String message) throws IOException {
+        res.setStatus(status.value());
+        res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        res.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(res.getOutputStream(), new RestApiException(message, status.value()));
+    }
+
+    // 미리 읽어 둔 본문을 다시 읽을 수 있게 하는 요청 래퍼
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), Charset.forName(encoding)));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.sparta.icy.security;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키(IP, username 등)별 토큰 버킷 제한기.
+ * 버킷마다 "다음 요청이 허용되는 이론상 시각(TAT)" 하나만 AtomicLong 으로 들고 CAS 로 갱신하는 GCRA 방식이라
+ * 락 없이 검사 한 번이 CAS 몇 번으로 끝납니다.
+ * - period 동안 permits 개가 채워지고, 한 번에 최대 burst 개까지 몰아서 쓸 수 있습니다.
+ * - TAT 가 지난 버킷은 가득 찬 새 버킷과 같으므로 evictIdle 로 지워도 동작이 바뀌지 않습니다.
+ * - 키 수가 maxKeys 에 닿으면 쉬는 버킷을 먼저 치우고, 그래도 가득하면 새 키는 추적하지 않고 통과시킵니다.
+ *   전체를 훑는 정리는 emission interval 마다 한 스레드만 하고, 그 사이 새 키는 바로 통과시킵니다.
+ *   (새 키를 계속 바꾸는 요청마다 전체 스캔을 하지 않기 위함)
+ *   (username 을 무작위로 바꾸는 공격은 IP 기준 제한이 막습니다)
+ */
+public class RateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+    private final int maxKeys;
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    // 가득 찼을 때 마지막으로 정리한 시각. Long.MIN_VALUE 면 아직 정리한 적 없음
+    private final AtomicLong lastSweep = new AtomicLong(Long.MIN_VALUE);
+
+    public RateLimiter(int permits, Duration period, int burst, int maxKeys) {
+        if (permits < 1 || burst < 1) {
+            throw new IllegalArgumentException("permits 와 burst 는 1 이상이어야 합니다.");
+        }
+        this.emissionIntervalNanos = period.toNanos() / permits;
+        this.toleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.maxKeys = maxKeys;
+    }
+
+    // 허용되면 0, 거절되면 다음 요청이 허용될 때까지 남은 시간(ns)
+    public long tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    long tryAcquire(String key, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys && (!sweep(now) || buckets.size() >= maxKeys)) {
+                return 0L;
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+        while (true) {
+            long tat = bucket.get();
+            long base = Math.max(tat, now);
+            long wait = base - now - toleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(tat, base + emissionIntervalNanos)) {
+                return 0L;
+            }
+        }
+    }
+
+    // 직전 정리에서 emission interval 이 지났으면 이 스레드만 정리합니다. 정리했으면 true
+    private boolean sweep(long now) {
+        long last = lastSweep.get();
+        if (last != Long.MIN_VALUE && now - last < emissionIntervalNanos) {
+            return false;
+        }
+        if (!lastSweep.compareAndSet(last, now)) {
+            return false;
+        }
+        evictIdle(now);
+        return true;
+    }
+
+    // TAT 가 지난 (가득 찬) 버킷을 지웁니다. 지운 개수를 돌려줍니다.
+    public int evictIdle() {
+        return evictIdle(System.nanoTime());
+    }
+
+    int evictIdle(long now) {
+        int removed = 0;
+        for (Map.Entry<String, AtomicLong> entry : buckets.entrySet()) {
+            if (entry.getValue().get() <= now && buckets.remove(entry.getKey(), entry.getValue())) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,141 @@
+package com.sparta.icy.security;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 사용자별 폐기 기준 시각(초). 이 시각보다 먼저 발급된 토큰은 거절합니다.
+ * 읽기는 불변 스냅샷 하나만 보므로 잠금도 객체 할당도 없고,
+ * 쓰기(로그아웃/탈퇴, 드묾)는 스냅샷을 통째로 새로 만듭니다.
+ * 스냅샷 앞단의 블룸 필터가 폐기 기록이 없는 대부분의 사용자를 비트 몇 개로 통과시키고,
+ * 양성일 때만 정확한 표(오픈 어드레싱 long → long)를 확인합니다.
+ */
+public class RevocationSet {
+
+    private final Map<Long, Long> watermarks = new HashMap<>();
+    private volatile Snapshot snapshot = Snapshot.build(Map.of());
+
+    public boolean isRevoked(long userId, long issuedAtSeconds) {
+        Snapshot current = snapshot;
+        if (!current.mightContain(userId)) {
+            return false;
+        }
+        return issuedAtSeconds < current.watermark(userId);
+    }
+
+    // 같은 사용자는 더 늦은 기준 시각만 남깁니다.
+    public synchronized void revoke(long userId, long revokedAtSeconds) {
+        Long previous = watermarks.get(userId);
+        if (previous != null && previous >= revokedAtSeconds) {
+            return;
+        }
+        watermarks.put(userId, revokedAtSeconds);
+        snapshot = Snapshot.build(watermarks);
+    }
+
+    public synchronized void replaceAll(Map<Long, Long> entries) {
+        watermarks.clear();
+        watermarks.putAll(entries);
+        snapshot = Snapshot.build(watermarks);
+    }
+
+    // 기준 시각이 cutoff 이하인 기록은 그 전에 발급된 토큰이 모두 만료됐으므로 지웁니다.
+    public synchronized int expire(long cutoffSeconds) {
+        int before = watermarks.size();
+        watermarks.values().removeIf(watermark -> watermark <= cutoffSeconds);
+        int removed = before - watermarks.size();
+        if (removed > 0) {
+            snapshot = Snapshot.build(watermarks);
+        }
+        return removed;
+    }
+
+    public int size() {
+        return snapshot.size;
+    }
+
+    private static final class Snapshot {
+        private static final long EMPTY = Long.MIN_VALUE;
+        // 항목당 16비트, 해시 3개 → 오탐 약 0.5%
+        private static final int BITS_PER_ENTRY = 16;
+        private static final int HASHES = 3;
+
+        private final long[] bloom;
+        private final int bloomMask;
+        private final long[] keys;
+        private final long[] values;
+        private final int tableMask;
+        private final int size;
+
+        private Snapshot(int size) {
+            int bloomBits = Math.max(64, powerOfTwoAtLeast(size * BITS_PER_ENTRY));
+            this.bloom = new long[bloomBits >>> 6];
+            this.bloomMask = bloomBits - 1;
+            int capacity = Math.max(2, powerOfTwoAtLeast(size * 2));
+            this.keys = new long[capacity];
+            this.values = new long[capacity];
+            this.tableMask = capacity - 1;
+            this.size = size;
+            Arrays.fill(keys, EMPTY);
+        }
+
+        static Snapshot build(Map<Long, Long> entries) {
+            Snapshot snapshot = new Snapshot(entries.size());
+            entries.forEach(snapshot::insert);
+            return snapshot;
+        }
+
+        private void insert(long key, long value) {
+            long hash = mix(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < HASHES; i++) {
+                int bit = (h1 + i * h2) & bloomMask;
+                bloom[bit >>> 6] |= 1L << bit;
+            }
+            int slot = h1 & tableMask;
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & tableMask;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+        }
+
+        boolean mightContain(long key) {
+            long hash = mix(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < HASHES; i++) {
+                int bit = (h1 + i * h2) & bloomMask;
+                if ((bloom[bit >>> 6] & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // 없으면 Long.MIN_VALUE (어떤 발급 시각도 이보다 작지 않음)
+        long watermark(long key) {
+            int slot = (int) mix(key) & tableMask;
+            while (keys[slot] != EMPTY) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & tableMask;
+            }
+            return EMPTY;
+        }
+
+        private static int powerOfTwoAtLeast(int n) {
+            return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+        }
+
+        // SplitMix64 finalizer
+        private static long mix(long x) {
+            x = (x ^ (x >>> 30)) * 0xbf58476d1ce4e5b9L;
+            x = (x ^ (x >>> 27)) * 0x94d049bb133111ebL;
+            return x ^ (x >>> 31);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.sparta.icy.security;
+
+import com.sparta.icy.entity.TokenRevocation;
+import com.sparta.icy.jwt.JwtUtil;
+import com.sparta.icy.repository.TokenRevocationRepository;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로그아웃/탈퇴한 사용자의 아직 만료되지 않은 JWT 를 거절합니다.
+ * 기록은 token_revocation 에 두고, 기동 시와 주기적으로 메모리의 RevocationSet 으로 읽어옵니다
+ * (다른 인스턴스에서 폐기한 것도 동기화 주기 안에 반영됩니다).
+ * 가장 긴 토큰 수명이 지난 기록은 메모리와 DB 에서 모두 지웁니다.
+ */
+@Slf4j(topic = "토큰 폐기")
+@Service
+public class TokenRevocationService {
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final RevocationSet revocations = new RevocationSet();
+    private LocalDateTime lastSync;
+
+    public TokenRevocationService(TokenRevocationRepository tokenRevocationRepository, MeterRegistry meterRegistry) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        Gauge.builder("auth.revocations", revocations, RevocationSet::size).register(meterRegistry);
+    }
+
+    // 인가 필터가 요청을 받기 전에 채워 둡니다.
+    @PostConstruct
+    public synchronized void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Long> entries = new HashMap<>();
+        for (TokenRevocation revocation : tokenRevocationRepository.findByRevokedAtAfter(cutoff(now))) {
+            entries.put(revocation.getUserId(), toEpochSecond(revocation.getRevokedAt()));
+        }
+        revocations.replaceAll(entries);
+        lastSync = now;
+        log.info("토큰 폐기 기록 {}건 로드", entries.size());
+    }
+
+    // 요청 경로: 클레임 맵의 숫자를 그대로 읽으므로 객체를 만들지 않습니다.
+    // uid 가 없는 토큰(이전 버전에서 발급)은 확인하지 않고 30분 안에 만료됩니다.
+    public boolean isRevoked(Claims claims) {
+        Object userId = claims.get(JwtUtil.USER_ID_CLAIM);
+        Object issuedAt = claims.get(Claims.ISSUED_AT);
+        if (!(userId instanceof Number) || !(issuedAt instanceof Number)) {
+            return false;
+        }
+        return revocations.isRevoked(((Number) userId).longValue(), ((Number) issuedAt).longValue());
+    }
+
+    // 지금까지 이 사용자에게 발급된 액세스 토큰을 모두 무효로 합니다. (같은 초에 발급된 토큰은 통과)
+    public void revokeAll(Long userId) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        revocations.revoke(userId, toEpochSecond(now));
+        tokenRevocationRepository.save(new TokenRevocation(userId, now));
+    }
+
+    @Scheduled(fixedDelayString = "${security.revocation.sync-interval-ms:30000}")
+    public synchronized void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        // 다른 인스턴스의 커밋이 늦게 보일 수 있으므로 조금 겹쳐 읽습니다 (같은 값은 무시됨).
+        List<TokenRevocation> changed = tokenRevocationRepository.findByRevokedAtAfter(lastSync.minusMinutes(1));
+        for (TokenRevocation revocation : changed) {
+            revocations.revoke(revocation.getUserId(), toEpochSecond(revocation.getRevokedAt()));
+        }
+        lastSync = now;
+
+        LocalDateTime cutoff = cutoff(now);
+        revocations.expire(toEpochSecond(cutoff));
+        tokenRevocationRepository.deleteByRevokedAtBefore(cutoff);
+    }
+
+    private static LocalDateTime cutoff(LocalDateTime now) {
+        return now.minus(JwtUtil.MAX_TOKEN_LIFETIME);
+    }
+
+    private static long toEpochSecond(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+}
@@ -1,23 +1,32 @@
 package com.sparta.icy.security;
 
+import com.sparta.icy.config.CacheConfig;
 import com.sparta.icy.entity.User;
 import com.sparta.icy.entity.UserStatus;
 import com.sparta.icy.repository.UserRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final Cache principalCache;
 
-    public UserDetailsServiceImpl(UserRepository userRepository) {
+    public UserDetailsServiceImpl(UserRepository userRepository, CacheManager cacheManager) {
         this.userRepository = userRepository;
+        this.principalCache = cacheManager.getCache(CacheConfig.USER_PRINCIPAL_CACHE);
     }
 
+    // 로그인(비밀번호 확인)은 항상 DB 에서 읽습니다.
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepository.findByUsername(username)
@@ -29,4 +38,41 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
         return new UserDetailsImpl(user);
     }
-}
\ No newline at end of file
+
+    // JWT 인가용: 토큰이 이미 신원을 증명하므로 짧은 시간 동안 캐시된 사용자 정보를 씁니다.
+    // 없는 사용자/탈퇴한 사용자는 캐시하지 않습니다.
+    public UserDetails loadCachedUserByUsername(String username) {
+        UserDetails cached = principalCache.get(username, UserDetails.class);
+        if (cached != null) {
+            return cached;
+        }
+        UserDetails loaded = loadUserByUsername(username);
+        principalCache.put(username, loaded);
+        return loaded;
+    }
+
+    // 로그인 필터(DaoAuthenticationProvider)가 낮은 cost 의 해시를 새 해시로 바꿀 때 호출합니다.
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newEncodedPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("Not Found " + userDetails.getUsername()));
+        user.setPassword(newEncodedPassword);
+        userRepository.save(user);
+        evictCachedUser(user.getUsername());
+        return new UserDetailsImpl(user);
+    }
+
+    // 회원 정보 수정/탈퇴 시 호출합니다.
+    // 트랜잭션 안이면 커밋 전에 다른 요청이 옛 정보를 다시 캐시할 수 있으므로 커밋 후에도 한 번 더 비웁니다.
+    public void evictCachedUser(String username) {
+        principalCache.evict(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    principalCache.evict(username);
+                }
+            });
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.sparta.icy.service;
 
+import com.sparta.icy.dto.BatchResponseDto;
+import com.sparta.icy.dto.CommentPageResponseDto;
 import com.sparta.icy.dto.CommentRequestDto;
 import com.sparta.icy.dto.CommentResponseDto;
+import com.sparta.icy.dto.FeedCommentsResponseDto;
 import com.sparta.icy.entity.Comment;
 import com.sparta.icy.entity.Newsfeed;
 import com.sparta.icy.entity.User;
@@ -10,17 +13,23 @@ import com.sparta.icy.repository.NewsfeedRepository;
 import com.sparta.icy.security.UserDetailsImpl;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.context.MessageSource;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 public class CommentService {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
 
     private final CommentRepository commentRepository;
     private final NewsfeedService newsfeedService;
@@ -33,8 +42,10 @@ public class CommentService {
         this.newsfeedRepository = newsfeedRepository;
     }
 
+    @Transactional
     public CommentResponseDto writeComment(Long feed_id, CommentRequestDto requestDto) {
         User currentUser = getUser();
+        // 부모 게시물은 캐시(NewsfeedService.getNewsfeed)가 아닌 DB 에서 읽어 삭제된 게시물에 댓글이 달리지 않게 합니다.
         Newsfeed newsfeed = newsfeedRepository.findById(feed_id)
                 .orElseThrow(() -> new EntityNotFoundException(
                         messageSource.getMessage("entity.not.found.user", null,
@@ -47,14 +58,88 @@ public class CommentService {
         comment.setUser(currentUser);
         comment.setNewsfeed(newsfeed);
         Comment savedcomment = commentRepository.save(comment);
+        newsfeedRepository.adjustCommentCount(feed_id, 1);
+        newsfeedService.onCommentsChanged(feed_id);
         return new CommentResponseDto(savedcomment);
     }
 
+    // 전체 댓글 조회는 unpaged=true 로 명시한 경우에만 사용됩니다.
+    @Transactional(readOnly = true)
     public List<CommentResponseDto> getComments(Long feed_id) {
-        List<Comment> comments = commentRepository.findByNewsfeedId(feed_id);
-        return comments.stream()
-                .map(CommentResponseDto::new)
-                .collect(Collectors.toList());
+        return commentRepository.findResponsesByNewsfeedId(feed_id);
+    }
+
+    // 커서(마지막으로 받은 댓글 id) 이후의 댓글을 size 개 조회합니다.
+    @Transactional(readOnly = true)
+    public CommentPageResponseDto getCommentPage(Long feed_id, Long cursor, int size) {
+        checkPageSize(size);
+        long afterId = cursor == null ? 0L : cursor;
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회
+        List<CommentResponseDto> comments = commentRepository.findPageByNewsfeedId(feed_id, afterId, PageRequest.of(0, size + 1));
+        Long nextCursor = null;
+        if (comments.size() > size) {
+            comments = comments.subList(0, size);
+            nextCursor = comments.get(size - 1).getId();
+        }
+        return new CommentPageResponseDto(comments, nextCursor);
+    }
+
+    // 댓글 목록 버전: 같은 범위의 (id, updated_at) 만 읽어 해시합니다.
+    @Transactional(readOnly = true)
+    public ResourceVersion getCommentPageVersion(Long feed_id, Long cursor, int size) {
+        checkPageSize(size);
+        long afterId = cursor == null ? 0L : cursor;
+        return versionOf(commentRepository.findVersionPageByNewsfeedId(feed_id, afterId, PageRequest.of(0, size + 1)), size);
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion getCommentsVersion(Long feed_id) {
+        return versionOf(commentRepository.findVersionsByNewsfeedId(feed_id), Integer.MAX_VALUE);
+    }
+
+    private static ResourceVersion versionOf(List<CommentRepository.VersionRow> rows, int size) {
+        ResourceVersion.Builder version = ResourceVersion.builder();
+        for (int i = 0; i < Math.min(rows.size(), size); i++) {
+            CommentRepository.VersionRow row = rows.get(i);
+            version.add(row.getId()).add(row.getUpdatedAt());
+        }
+        return version.add(rows.size() > size ? 1 : 0).weak();
+    }
+
+    private static void checkPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+    }
+
+    // 여러 게시물의 댓글 첫 페이지(게시물마다 size 개)를 쿼리 한 번으로 조회하고 게시물별로 묶습니다.
+    // 댓글이 없는 게시물과 없는 게시물을 구분하기 위해 게시물 존재 여부를 id 만 한 번 더 확인합니다.
+    @Transactional(readOnly = true)
+    public BatchResponseDto<FeedCommentsResponseDto> getCommentsByFeedIds(List<Long> feedIds, int size) {
+        checkPageSize(size);
+        List<Long> distinctIds = BatchResponseDto.distinctIds(feedIds);
+        Map<Long, List<CommentResponseDto>> commentsByFeedId = new HashMap<>(distinctIds.size() * 2);
+        for (Long feedId : newsfeedRepository.findExistingIdsIn(distinctIds)) {
+            commentsByFeedId.put(feedId, new ArrayList<>());
+        }
+        Map<Long, FeedCommentsResponseDto> byFeedId = new HashMap<>(commentsByFeedId.size() * 2);
+        if (commentsByFeedId.isEmpty()) {
+            return BatchResponseDto.inRequestOrder(distinctIds, byFeedId);
+        }
+        // 다음 페이지 존재 여부를 알기 위해 게시물마다 하나 더 조회
+        for (CommentRepository.FeedCommentRow row : commentRepository.findFirstRowsByNewsfeedIdIn(commentsByFeedId.keySet(), size + 1)) {
+            commentsByFeedId.get(row.getFeedId()).add(
+                    new CommentResponseDto(row.getId(), row.getContent(), row.getCreatedAt(), row.getUpdatedAt()));
+        }
+        commentsByFeedId.forEach((feedId, comments) -> {
+            Long nextCursor = null;
+            if (comments.size() > size) {
+                comments = comments.subList(0, size);
+                nextCursor = comments.get(size - 1).getId();
+            }
+            byFeedId.put(feedId, new FeedCommentsResponseDto(feedId, comments, nextCursor));
+        });
+        return BatchResponseDto.inRequestOrder(distinctIds, byFeedId);
     }
 
     public CommentResponseDto updateComment(Long comments_id, CommentRequestDto requestDto) {
@@ -71,6 +156,7 @@ public class CommentService {
         return new CommentResponseDto(comment);
     }
 
+    @Transactional
     public void deleteComment(Long comments_id) {
         User currentUser = getUser();
         Comment comment = commentRepository.findById(comments_id)
@@ -79,7 +165,10 @@ public class CommentService {
         if (!currentUser.getId().equals(comment.getUser().getId())) {
             throw new IllegalArgumentException("게시물 삭제 권한이 없습니다.");
         }
+        Long feedId = comment.getNewsfeed().getId();
         commentRepository.delete(comment);
+        newsfeedRepository.adjustCommentCount(feedId, -1);
+        newsfeedService.onCommentsChanged(feedId);
     }
 
     private static User getUser() {
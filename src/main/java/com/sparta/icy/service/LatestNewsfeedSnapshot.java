@@ -0,0 +1,220 @@
+package com.sparta.icy.service;
+
+import com.sparta.icy.dto.NewsfeedCursor;
+import com.sparta.icy.dto.NewsfeedPageResponseDto;
+import com.sparta.icy.dto.NewsfeedResponseDto;
+import com.sparta.icy.repository.NewsfeedRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * 최신 게시물 N 개를 메모리에 들고 있는 읽기 전용 스냅샷.
+ * <p>
+ * 스냅샷은 불변 리스트이고 변경 시 새 리스트를 만들어 AtomicReference 로 교체(copy-on-write)하므로,
+ * 익명 사용자의 GET /boards 첫 페이지는 DB 조회나 락 없이 응답됩니다.
+ * 작성/수정/삭제는 NewsfeedService 가 커밋 후 알려주며 스냅샷을 증분 갱신합니다.
+ * 적재는 한 번에 하나만 하고, 적재 중에 들어온 변경은 적재 결과에 다시 적용한 뒤 설치합니다.
+ */
+@Slf4j(topic = "최신 게시물 스냅샷")
+@Component
+public class LatestNewsfeedSnapshot {
+
+    // NewsfeedRepository.findLatest 와 같은 정렬: created_at, id 내림차순
+    private static final Comparator<NewsfeedResponseDto> LATEST_FIRST =
+            Comparator.comparing(NewsfeedResponseDto::getCreated_at)
+                    .thenComparing(NewsfeedResponseDto::getId)
+                    .reversed();
+
+    private final NewsfeedRepository newsfeedRepository;
+    private final int capacity;
+    private final long maxAgeNanos;
+
+    // null 이면 아직 적재되지 않았거나 무효화된 상태
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    // 한 번에 하나의 요청만 DB 에서 다시 적재합니다.
+    private final AtomicBoolean reloading = new AtomicBoolean();
+    // 변경 적용과 적재 결과 설치를 직렬화합니다. (읽기는 락을 잡지 않음)
+    private final Object lock = new Object();
+    // 적재 중에 들어온 변경. 적재 중이 아니면 null (lock 으로 보호)
+    private List<UnaryOperator<Snapshot>> pending;
+
+    public LatestNewsfeedSnapshot(NewsfeedRepository newsfeedRepository,
+                                  @Value("${newsfeed.snapshot.size:100}") int capacity,
+                                  @Value("${newsfeed.snapshot.max-age:60s}") Duration maxAge) {
+        this.newsfeedRepository = newsfeedRepository;
+        this.capacity = capacity;
+        this.maxAgeNanos = maxAge.toNanos();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    /**
+     * 스냅샷으로 첫 페이지를 만들 수 있으면 반환하고, 아니면 null 을 반환합니다.
+     * (요청 크기가 스냅샷보다 크거나, 삭제로 스냅샷이 모자란 경우)
+     */
+    public NewsfeedPageResponseDto firstPage(int size) {
+        if (size > capacity) {
+            return null;
+        }
+        Snapshot snapshot = current.get();
+        if (snapshot == null || System.nanoTime() - snapshot.loadedAt > maxAgeNanos) {
+            // 다른 요청이 적재 중이면 기다리지 않고 DB 로 넘깁니다.
+            snapshot = reload();
+            if (snapshot == null) {
+                return null;
+            }
+        }
+        List<NewsfeedResponseDto> items = snapshot.items;
+        if (items.size() > size) {
+            NewsfeedResponseDto last = items.get(size - 1);
+            return new NewsfeedPageResponseDto(items.subList(0, size),
+                    new NewsfeedCursor(last.getCreated_at(), last.getId()).encode());
+        }
+        if (items.size() == size && !snapshot.complete) {
+            NewsfeedResponseDto last = items.get(size - 1);
+            return new NewsfeedPageResponseDto(items,
+                    new NewsfeedCursor(last.getCreated_at(), last.getId()).encode());
+        }
+        if (snapshot.complete) {
+            return new NewsfeedPageResponseDto(items, null);
+        }
+        // 삭제로 스냅샷이 줄어든 상태: DB 로 조회
+        return null;
+    }
+
+    public void onCreated(NewsfeedResponseDto created) {
+        mutate(s -> s.upsert(created, capacity));
+    }
+
+    public void onUpdated(NewsfeedResponseDto updated) {
+        mutate(s -> s.replace(updated));
+    }
+
+    public void onDeleted(Long id) {
+        mutate(s -> s.remove(id, capacity));
+    }
+
+    public void invalidate() {
+        mutate(s -> null);
+    }
+
+    private void mutate(UnaryOperator<Snapshot> change) {
+        synchronized (lock) {
+            if (pending != null) {
+                pending.add(change);
+            }
+            current.updateAndGet(s -> s == null ? null : change.apply(s));
+        }
+    }
+
+    // 적재한 스냅샷을 돌려줍니다. 다른 요청이 적재 중이거나 적재 중 무효화되었으면 null
+    private Snapshot reload() {
+        if (!reloading.compareAndSet(false, true)) {
+            return null;
+        }
+        try {
+            synchronized (lock) {
+                pending = new ArrayList<>();
+            }
+            List<NewsfeedResponseDto> rows = newsfeedRepository.findLatest(PageRequest.of(0, capacity + 1));
+            boolean complete = rows.size() <= capacity;
+            Snapshot loaded = new Snapshot(
+                    List.copyOf(complete ? rows : rows.subList(0, capacity)), complete, System.nanoTime());
+            synchronized (lock) {
+                // 조회하는 동안 들어온 변경을 순서대로 다시 적용합니다. (같은 변경을 두 번 적용해도 결과는 같음)
+                for (UnaryOperator<Snapshot> change : pending) {
+                    if (loaded == null) {
+                        break;
+                    }
+                    loaded = change.apply(loaded);
+                }
+                current.set(loaded);
+            }
+            if (loaded != null) {
+                log.debug("스냅샷 적재: {}건", loaded.items.size());
+            }
+            return loaded;
+        } finally {
+            synchronized (lock) {
+                pending = null;
+            }
+            reloading.set(false);
+        }
+    }
+
+    private static final class Snapshot {
+        private final List<NewsfeedResponseDto> items;
+        // true 면 DB 에 스냅샷 밖의 게시물이 없음
+        private final boolean complete;
+        private final long loadedAt;
+
+        private Snapshot(List<NewsfeedResponseDto> items, boolean complete, long loadedAt) {
+            this.items = items;
+            this.complete = complete;
+            this.loadedAt = loadedAt;
+        }
+
+        private Snapshot upsert(NewsfeedResponseDto dto, int capacity) {
+            List<NewsfeedResponseDto> next = new ArrayList<>(items.size() + 1);
+            for (NewsfeedResponseDto item : items) {
+                if (!item.getId().equals(dto.getId())) {
+                    next.add(item);
+                }
+            }
+            next.add(dto);
+            next.sort(LATEST_FIRST);
+            boolean stillComplete = complete;
+            if (next.size() > capacity) {
+                next = next.subList(0, capacity);
+                stillComplete = false;
+            }
+            return new Snapshot(List.copyOf(next), stillComplete, loadedAt);
+        }
+
+        private Snapshot replace(NewsfeedResponseDto dto) {
+            List<NewsfeedResponseDto> next = new ArrayList<>(items.size());
+            boolean found = false;
+            for (NewsfeedResponseDto item : items) {
+                if (item.getId().equals(dto.getId())) {
+                    next.add(dto);
+                    found = true;
+                } else {
+                    next.add(item);
+                }
+            }
+            return found ? new Snapshot(List.copyOf(next), complete, loadedAt) : this;
+        }
+
+        private Snapshot remove(Long id, int capacity) {
+            List<NewsfeedResponseDto> next = new ArrayList<>(items.size());
+            for (NewsfeedResponseDto item : items) {
+                if (!item.getId().equals(id)) {
+                    next.add(item);
+                }
+            }
+            if (next.size() == items.size()) {
+                return this;
+            }
+            // 절반 이하로 줄면 버리고 다음 조회에서 다시 채웁니다.
+            if (!complete && next.size() <= capacity / 2) {
+                return null;
+            }
+            return new Snapshot(List.copyOf(next), complete, loadedAt);
+        }
+    }
+}
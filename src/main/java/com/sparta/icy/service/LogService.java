@@ -1,13 +1,17 @@
 package com.sparta.icy.service;
 
+import com.sparta.icy.audit.AuditActivityRepository;
+import com.sparta.icy.audit.AuditLogWriter;
+import com.sparta.icy.dto.ActivityCountDto;
 import com.sparta.icy.dto.LoginRequestDto;
-import com.sparta.icy.entity.Log;
-import com.sparta.icy.entity.RefreshToken;
+import com.sparta.icy.entity.AuditAction;
 import com.sparta.icy.entity.User;
+import com.sparta.icy.entity.UserStatus;
 import com.sparta.icy.exception.InvalidPasswordException;
+import com.sparta.icy.exception.InvalidRefreshTokenException;
 import com.sparta.icy.jwt.JwtUtil;
-import com.sparta.icy.repository.LogRepository;
 import com.sparta.icy.repository.UserRepository;
+import com.sparta.icy.security.TokenRevocationService;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
@@ -15,24 +19,51 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.MessageSource;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class LogService {
-    private final LogRepository logRepository;
+    private static final int MAX_ACTIVITY_DAYS = 366;
+
+    private final AuditLogWriter auditLogWriter;
+    private final AuditActivityRepository auditActivityRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
     private final RefreshTokenService refreshTokenService;
     private final MessageSource messageSource;
+    private final TokenRevocationService tokenRevocationService;
 
-    public void addLog(String username, String action) {
-        Log log = new Log(username, action);
-        logRepository.save(log);
+    // 요청 스레드에서는 큐에 넣기만 하고, insert 는 AuditLogWriter 가 모아서 합니다.
+    public void addLog(Long userId, AuditAction action) {
+        auditLogWriter.append(userId, action);
+    }
+
+    // 기간 내 일별/action 별 로그 수. 집계가 끝난 날은 집계 테이블에서, 나머지만 원본에서 셉니다.
+    public List<ActivityCountDto> getActivity(LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_ACTIVITY_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 " + MAX_ACTIVITY_DAYS + "일 이내여야 합니다.");
+        }
+        LocalDate end = to.plusDays(1);
+        LocalDate rolledUntil = auditActivityRepository.findRolledUntil();
+        LocalDate split = rolledUntil == null || rolledUntil.isBefore(from) ? from
+                : rolledUntil.isAfter(end) ? end : rolledUntil;
+
+        List<ActivityCountDto> counts = new ArrayList<>();
+        if (from.isBefore(split)) {
+            counts.addAll(auditActivityRepository.findRolledUp(from, split));
+        }
+        if (split.isBefore(end)) {
+            counts.addAll(auditActivityRepository.countRaw(split, end));
+        }
+        return counts;
     }
 
     public String login(LoginRequestDto dto, HttpServletResponse res) {
@@ -45,30 +76,48 @@ public class LogService {
             throw new InvalidPasswordException(messageSource.getMessage("invalid.password", null,
                     "Invalid Password", Locale.getDefault()));
         }
+        // BCrypt cost 가 올라간 뒤 처음 로그인하면 새 cost 로 다시 해시해 저장합니다.
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user.setPassword(passwordEncoder.encode(dto.getPassword()));
+            userRepository.save(user);
+        }
 
         // 토큰 생성
-        String token = jwtUtil.createToken(dto.getUsername(), true);
-
-        // 리프레시 토큰 확인 및 생성과 갱신
-        Optional<RefreshToken> optionalRefreshToken = refreshTokenService.findByUser(user);
-        RefreshToken refreshToken;
-        if (optionalRefreshToken.isPresent()) {
-            refreshToken = optionalRefreshToken.get();
-            // 리프레시 토큰 갱신 (필요 시 만료 시간 등을 업데이트)
-            refreshToken.setExpiryDate(LocalDateTime.now().plusWeeks(2));
-        } else {
-            refreshToken = refreshTokenService.createRefreshToken(user);
-        }
-        refreshTokenService.save(refreshToken);
+        String token = jwtUtil.createToken(user.getId(), dto.getUsername());
 
-        jwtUtil.addRefreshTokenToCookie(refreshToken.getToken(), res);
+        // 리프레시 토큰 발급 (로그인한 기기마다 새로 발급, 만료분은 주기적으로 정리)
+        String refreshToken = refreshTokenService.issue(user);
+        jwtUtil.addRefreshTokenToCookie(refreshToken, res);
 
         jwtUtil.addJwtToCookie(token, res);
 
+        addLog(user.getId(), AuditAction.LOGIN);
         return token;
     }
 
-    public void logout(HttpServletResponse response) {
+    // 비밀번호 확인(BCrypt) 없이 리프레시 토큰을 새것으로 바꾸고 액세스 토큰을 다시 발급합니다.
+    public String refresh(String refreshToken, HttpServletResponse res) {
+        Long userId = refreshTokenService.consume(refreshToken);
+        User user = userRepository.findById(userId)
+                .filter(found -> !found.getStatus().equals(UserStatus.SECESSION.getStatus()))
+                .orElseThrow(() -> new InvalidRefreshTokenException("유효하지 않은 리프레시 토큰입니다."));
+
+        String token = jwtUtil.createToken(user.getId(), user.getUsername());
+        jwtUtil.addRefreshTokenToCookie(refreshTokenService.issue(user), res);
+        jwtUtil.addJwtToCookie(token, res);
+        return token;
+    }
+
+    // 이 기기의 리프레시 토큰은 지우고, 이미 발급된 액세스 토큰은 모두 폐기합니다.
+    // 다른 기기는 자기 리프레시 토큰으로 새 액세스 토큰을 받을 수 있습니다.
+    public void logout(Long userId, String refreshToken, HttpServletResponse response) {
+        if (StringUtils.hasText(refreshToken)) {
+            refreshTokenService.revoke(refreshToken);
+        }
+        if (userId != null) {
+            tokenRevocationService.revokeAll(userId);
+            addLog(userId, AuditAction.LOGOUT);
+        }
         Cookie cookie = new Cookie(JwtUtil.AUTHORIZATION_HEADER, null);
         Cookie refreshCookie = new Cookie(JwtUtil.REFRESH_TOKEN_HEADER, null);
 
@@ -81,12 +130,15 @@ public class LogService {
     }
 
     public void addLoginLog(String username) {
-        addLog(username, "로그인");
+        addLog(findUserId(username), AuditAction.LOGIN);
     }
 
     public void addLogoutLog(String username) {
-        addLog(username, "로그아웃");
+        addLog(findUserId(username), AuditAction.LOGOUT);
     }
 
-
+    // 감사 로그는 user_id 로 저장합니다. 없는 사용자면 null
+    private Long findUserId(String username) {
+        return userRepository.findByUsername(username).map(User::getId).orElse(null);
+    }
 }
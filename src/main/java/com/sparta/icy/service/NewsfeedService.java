@@ -1,28 +1,64 @@
 package com.sparta.icy.service;
 
+import com.sparta.icy.config.CacheConfig;
+import com.sparta.icy.dto.BatchResponseDto;
+import com.sparta.icy.dto.NewsfeedCursor;
 import com.sparta.icy.dto.NewsfeedDto;
+import com.sparta.icy.dto.NewsfeedPageResponseDto;
 import com.sparta.icy.dto.NewsfeedResponseDto;
+import com.sparta.icy.dto.NewsfeedSearchResponseDto;
 import com.sparta.icy.entity.Newsfeed;
 import com.sparta.icy.entity.User;
+import com.sparta.icy.repository.CommentRepository;
 import com.sparta.icy.repository.NewsfeedRepository;
+import com.sparta.icy.search.InvertedIndex;
+import com.sparta.icy.search.NewsfeedSearchIndex;
 import com.sparta.icy.security.UserDetailsImpl;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class NewsfeedService {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    // 검색은 상위 K 개만 랭킹하므로 너무 깊은 페이지는 막습니다.
+    public static final int MAX_SEARCH_DEPTH = 1000;
+
     private final NewsfeedRepository newsfeedRepository;
+    private final CommentRepository commentRepository;
+    private final LatestNewsfeedSnapshot latestSnapshot;
+    private final NewsfeedSearchIndex searchIndex;
+    private final Cache newsfeedCache;
 
     @Autowired
-    public NewsfeedService(NewsfeedRepository newsfeedRepository) {
+    public NewsfeedService(NewsfeedRepository newsfeedRepository, CommentRepository commentRepository,
+                           LatestNewsfeedSnapshot latestSnapshot, NewsfeedSearchIndex searchIndex,
+                           CacheManager cacheManager) {
         this.newsfeedRepository = newsfeedRepository;
+        this.commentRepository = commentRepository;
+        this.latestSnapshot = latestSnapshot;
+        this.searchIndex = searchIndex;
+        this.newsfeedCache = cacheManager.getCache(CacheConfig.NEWSFEED_CACHE);
     }
 
     public NewsfeedResponseDto createNewsfeed(NewsfeedDto newsfeedDto) {
@@ -49,7 +85,10 @@ public class NewsfeedService {
         newsfeed.setUpdated_at(now);
         newsfeed.setUser(currentUser);
         newsfeedRepository.save(newsfeed);
-        return new NewsfeedResponseDto(newsfeed);
+        NewsfeedResponseDto created = new NewsfeedResponseDto(newsfeed);
+        latestSnapshot.onCreated(created);
+        searchIndex.index(newsfeed.getId(), newsfeed.getTitle(), newsfeed.getContent());
+        return created;
     }
 
     private static User getUser() {
@@ -69,26 +108,41 @@ public class NewsfeedService {
         return currentUser;
     }
 
+    // 읽기가 수정보다 훨씬 많으므로 단건 조회 결과를 캐시합니다. 수정/삭제 시 해당 항목을 비웁니다.
+    // 캐시는 모든 사용자가 공유하므로 replica 라우팅 시에도 primary 에서 읽습니다 (datasource.routing.primary-reads).
+    @Cacheable(cacheNames = CacheConfig.NEWSFEED_CACHE, key = "#id")
+    @Transactional(readOnly = true)
     public NewsfeedResponseDto getNewsfeed(Long id) {
-        Newsfeed newsfeed = newsfeedRepository.findById(id)
+        return newsfeedRepository.findResponseById(id)
                 .orElseThrow(() -> new IllegalArgumentException("해당 ID의 게시물을 찾을 수 없습니다: " + id));
-        return new NewsfeedResponseDto(
-                newsfeed.getId(),
-                newsfeed.getTitle(),
-                newsfeed.getRecruitmentCount(),
-                newsfeed.getContent(),
-                newsfeed.getCreated_at(),
-                newsfeed.getUpdated_at(),
-                newsfeed.getUser().getId()
-        );
     }
 
+    // 단건 조회 버전: 수정 시각과 댓글 수가 같으면 응답 본문도 같습니다.
+    // 실제로 내보내는 DTO(캐시된 값일 수 있음)에서 계산해 ETag 와 본문이 어긋나지 않게 합니다.
+    public static ResourceVersion versionOf(NewsfeedResponseDto newsfeed) {
+        return ResourceVersion.builder()
+                .add(newsfeed.getId())
+                .add(newsfeed.getUpdated_at())
+                .add(newsfeed.getCommentCount())
+                .strong();
+    }
+
+    // 여러 게시물을 IN 쿼리 한 번으로 조회합니다.
+    @Transactional(readOnly = true)
+    public BatchResponseDto<NewsfeedResponseDto> getNewsfeeds(List<Long> ids) {
+        List<Long> distinctIds = BatchResponseDto.distinctIds(ids);
+        return BatchResponseDto.inRequestOrder(distinctIds,
+                newsfeedRepository.findResponsesByIdIn(distinctIds), NewsfeedResponseDto::getId);
+    }
+
+    @Transactional
     public void updateNewsfeed(Long feed_id, NewsfeedDto newsfeedDto) {
         User currentUser = getUser();
         Newsfeed newsfeed = newsfeedRepository.findById(feed_id)
                 .orElseThrow(() -> new IllegalArgumentException("해당 ID의 게시물을 찾을 수 없습니다: " + feed_id));
 
-        if (!currentUser.getUsername().equals(newsfeed.getUser().getUsername())) {
+        // 작성자는 지연 로딩이므로 id 로 비교해 프록시를 초기화하지 않습니다.
+        if (!currentUser.getId().equals(newsfeed.getUser().getId())) {
             throw new IllegalArgumentException("게시물 업데이트 권한이 없습니다.");
         }
 
@@ -97,34 +151,178 @@ public class NewsfeedService {
         newsfeed.setContent(newsfeedDto.getContent());
         newsfeed.setUpdated_at(LocalDateTime.now());
         newsfeedRepository.save(newsfeed);
+        NewsfeedResponseDto updated = new NewsfeedResponseDto(newsfeed);
+        String title = newsfeed.getTitle();
+        String content = newsfeed.getContent();
+        afterCommit(() -> {
+            newsfeedCache.evict(feed_id);
+            latestSnapshot.onUpdated(updated);
+            searchIndex.index(feed_id, title, content);
+        });
     }
 
+    // 댓글은 bulk delete 로 지우고 게시물만 삭제하므로 댓글 수와 관계없이 쿼리 3회입니다.
+    @Transactional
     public void deleteNewsfeed(Long id) {
         User currentUser = getUser();
         Newsfeed newsfeed = newsfeedRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("해당 ID의 게시물을 찾을 수 없습니다: " + id));
 
-        if (!currentUser.getUsername().equals(newsfeed.getUser().getUsername())) {
+        if (!currentUser.getId().equals(newsfeed.getUser().getId())) {
             throw new IllegalArgumentException("게시물 삭제 권한이 없습니다.");
         }
+        commentRepository.deleteByNewsfeedId(id);
         newsfeedRepository.delete(newsfeed);
+        afterCommit(() -> {
+            newsfeedCache.evict(id);
+            latestSnapshot.onDeleted(id);
+            searchIndex.remove(id);
+        });
+    }
+
+    // 캐시/스냅샷/검색 색인 갱신은 커밋 후에 합니다. 롤백되면 그대로 두고,
+    // 커밋 전에 비운 캐시를 다른 요청이 예전 행으로 다시 채우는 일도 없게 합니다. (트랜잭션 밖이면 바로 실행)
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 댓글 작성/삭제로 댓글 수가 바뀐 게시물의 캐시와 스냅샷을 갱신합니다.
+    // 바뀐 댓글 수는 호출한 트랜잭션 안에서 읽고, 캐시/스냅샷에는 커밋 후에 반영합니다.
+    public void onCommentsChanged(Long feedId) {
+        Optional<NewsfeedResponseDto> changed = newsfeedRepository.findResponseById(feedId);
+        afterCommit(() -> {
+            newsfeedCache.evict(feedId);
+            changed.ifPresent(latestSnapshot::onUpdated);
+        });
+    }
+
+    // keyset 페이지네이션: 커서 이후의 게시물을 size 개만 조회합니다.
+    @Transactional(readOnly = true)
+    public NewsfeedPageResponseDto getNewsfeedPage(String cursor, int size) {
+        checkPageSize(size);
+        // 첫 페이지는 메모리 스냅샷에서 바로 응답합니다.
+        if (cursor == null || cursor.isBlank()) {
+            NewsfeedPageResponseDto firstPage = latestSnapshot.firstPage(size);
+            if (firstPage != null) {
+                return firstPage;
+            }
+        }
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<NewsfeedResponseDto> newsfeeds;
+        if (cursor == null || cursor.isBlank()) {
+            newsfeeds = newsfeedRepository.findLatest(limit);
+        } else {
+            NewsfeedCursor decoded = NewsfeedCursor.decode(cursor);
+            newsfeeds = newsfeedRepository.findLatestBefore(decoded.getCreatedAt(), decoded.getId(), limit);
+        }
+
+        String nextCursor = null;
+        if (newsfeeds.size() > size) {
+            newsfeeds = newsfeeds.subList(0, size);
+            NewsfeedResponseDto last = newsfeeds.get(size - 1);
+            nextCursor = new NewsfeedCursor(last.getCreated_at(), last.getId()).encode();
+        }
+        return new NewsfeedPageResponseDto(newsfeeds, nextCursor);
+    }
+
+    // 페이지 버전: getNewsfeedPage 와 같은 범위의 (id, updated_at, 댓글 수) 만 읽어 해시합니다.
+    @Transactional(readOnly = true)
+    public ResourceVersion getNewsfeedPageVersion(String cursor, int size) {
+        checkPageSize(size);
+        ResourceVersion.Builder version = ResourceVersion.builder();
+        if (cursor == null || cursor.isBlank()) {
+            NewsfeedPageResponseDto firstPage = latestSnapshot.firstPage(size);
+            if (firstPage != null) {
+                for (NewsfeedResponseDto dto : firstPage.getNewsfeeds()) {
+                    version.add(dto.getId()).add(dto.getUpdated_at()).add(dto.getCommentCount());
+                }
+                return version.add(firstPage.isHasNext() ? 1 : 0).weak();
+            }
+        }
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<NewsfeedRepository.VersionRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = newsfeedRepository.findLatestVersions(limit);
+        } else {
+            NewsfeedCursor decoded = NewsfeedCursor.decode(cursor);
+            rows = newsfeedRepository.findLatestVersionsBefore(decoded.getCreatedAt(), decoded.getId(), limit);
+        }
+        return versionOf(rows, size);
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion getAllNewsfeedVersion() {
+        return versionOf(newsfeedRepository.findAllVersions(), Integer.MAX_VALUE);
+    }
+
+    private static ResourceVersion versionOf(List<NewsfeedRepository.VersionRow> rows, int size) {
+        ResourceVersion.Builder version = ResourceVersion.builder();
+        for (int i = 0; i < Math.min(rows.size(), size); i++) {
+            NewsfeedRepository.VersionRow row = rows.get(i);
+            version.add(row.getId()).add(row.getUpdatedAt()).add(row.getCommentCount());
+        }
+        return version.add(rows.size() > size ? 1 : 0).weak();
     }
 
+    private static void checkPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+    }
+
+    // 전체 조회는 테이블 크기에 비례하므로 unpaged=true 로 명시한 경우에만 사용됩니다.
+    @Transactional(readOnly = true)
     public List<NewsfeedResponseDto> getAllNewsfeed() {
-        List<Newsfeed> newsfeeds = newsfeedRepository.findAll();
-
-        newsfeeds.sort(Comparator.comparing(Newsfeed::getCreated_at).reversed());
-
-        return newsfeeds.stream()
-                .map(newsfeed -> new NewsfeedResponseDto(
-                        newsfeed.getId(),
-                        newsfeed.getTitle(),
-                        newsfeed.getRecruitmentCount(),
-                        newsfeed.getContent(),
-                        newsfeed.getCreated_at(),
-                        newsfeed.getUpdated_at(),
-                        newsfeed.getUser().getId()
-                ))
-                .collect(Collectors.toList());
-    }
-}
\ No newline at end of file
+        return newsfeedRepository.findAllResponses();
+    }
+
+    // 전체 내보내기: 행을 하나씩 sink 로 넘기므로 메모리 사용량이 행 수와 무관합니다.
+    // 스트림은 트랜잭션 안에서만 읽을 수 있으므로 sink 가 끝날 때까지 트랜잭션을 유지합니다.
+    @Transactional(readOnly = true)
+    public long exportNewsfeeds(Consumer<NewsfeedResponseDto> sink) {
+        long count = 0;
+        try (Stream<NewsfeedResponseDto> rows = newsfeedRepository.streamAllResponses()) {
+            for (Iterator<NewsfeedResponseDto> it = rows.iterator(); it.hasNext(); count++) {
+                sink.accept(it.next());
+            }
+        }
+        return count;
+    }
+
+    // 제목/내용 검색: 색인에서 순위대로 id 를 받고, 해당 게시물만 한 번에 조회합니다.
+    @Transactional(readOnly = true)
+    public NewsfeedSearchResponseDto searchNewsfeeds(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어가 비어있습니다.");
+        }
+        checkPageSize(size);
+        if (page < 0 || ((long) page + 1) * size > MAX_SEARCH_DEPTH) {
+            throw new IllegalArgumentException("검색 결과는 " + MAX_SEARCH_DEPTH + "번째까지만 조회할 수 있습니다.");
+        }
+
+        InvertedIndex.SearchResult result = searchIndex.search(query, page * size, size);
+        if (result.getIds().isEmpty()) {
+            return new NewsfeedSearchResponseDto(List.of(), result.getTotalHits(), page, size);
+        }
+        Map<Long, NewsfeedResponseDto> byId = newsfeedRepository.findResponsesByIdIn(result.getIds()).stream()
+                .collect(Collectors.toMap(NewsfeedResponseDto::getId, Function.identity()));
+        List<NewsfeedResponseDto> ranked = new ArrayList<>(result.getIds().size());
+        for (Long id : result.getIds()) {
+            NewsfeedResponseDto dto = byId.get(id);
+            if (dto != null) {
+                ranked.add(dto);
+            }
+        }
+        return new NewsfeedSearchResponseDto(ranked, result.getTotalHits(), page, size);
+    }
+}
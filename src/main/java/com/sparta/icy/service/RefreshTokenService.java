@@ -1,47 +1,117 @@
 package com.sparta.icy.service;
 
 
-import com.sparta.icy.entity.RefreshToken;
 import com.sparta.icy.entity.User;
-import com.sparta.icy.repository.RefreshTokenRepository;
-import org.springframework.beans.factory.annotation.Autowired;
+import com.sparta.icy.exception.InvalidRefreshTokenException;
+import com.sparta.icy.token.RefreshTokenStore;
+import com.sparta.icy.token.StoredRefreshToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
 import java.util.Optional;
-import java.util.UUID;
 
+/**
+ * 리프레시 토큰 발급/조회/폐기.
+ * 원문은 쿠키로만 나가고 저장소에는 SHA-256 해시만 남습니다.
+ */
+@Slf4j(topic = "리프레시 토큰")
 @Service
-public class  RefreshTokenService {
+public class RefreshTokenService {
+    private static final int TOKEN_BYTES = 32;
+    // 한 번 정리할 때 지우는 최대 청크 수 (남은 것은 다음 주기에)
+    private static final int MAX_PURGE_CHUNKS = 100;
 
-    @Autowired
-    private RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final Duration ttl;
+    private final int purgeBatchSize;
+    private final SecureRandom random = new SecureRandom();
 
-    public RefreshToken createRefreshToken(User user) {
-        RefreshToken refreshToken = new RefreshToken();
-        refreshToken.setToken(UUID.randomUUID().toString());
-        refreshToken.setUser(user);
-        refreshToken.setExpiryDate(LocalDateTime.now().plusWeeks(2));
-        return refreshTokenRepository.save(refreshToken);
+    public RefreshTokenService(RefreshTokenStore refreshTokenStore,
+                               @Value("${refresh-token.ttl:14d}") Duration ttl,
+                               @Value("${refresh-token.purge-batch-size:500}") int purgeBatchSize) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.ttl = ttl;
+        this.purgeBatchSize = purgeBatchSize;
     }
 
-    public Optional<RefreshToken> findByToken(String token) {
-        return refreshTokenRepository.findByToken(token);
+    // 새 토큰을 저장하고 원문을 돌려줍니다 (로그인마다 기기별로 하나씩).
+    public String issue(User user) {
+        return issue(user.getId());
     }
 
-    public void deleteByToken(String token) {
-        refreshTokenRepository.deleteByToken(token);
+    public String issue(Long userId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        refreshTokenStore.save(hash(token), userId, LocalDateTime.now().plus(ttl));
+        return token;
     }
 
-    public void deleteByUser(User user) {
-        refreshTokenRepository.deleteByUser(user);
+    // 만료되지 않은 토큰만 돌려줍니다.
+    public Optional<StoredRefreshToken> findValid(String token) {
+        return refreshTokenStore.find(hash(token))
+                .filter(stored -> !stored.isExpired(LocalDateTime.now()));
     }
 
-    public RefreshToken save(RefreshToken refreshToken) {
-        return refreshTokenRepository.save(refreshToken);
+    /**
+     * 토큰을 한 번 쓰고 지웁니다 (교체용). 사용자 id 를 돌려줍니다.
+     * 삭제에 성공한 요청 하나만 통과하므로 같은 토큰으로 동시에 들어온 요청 중 하나만 새 토큰을 받습니다.
+     */
+    public Long consume(String token) {
+        if (!StringUtils.hasText(token)) {
+            throw new InvalidRefreshTokenException("리프레시 토큰이 없습니다.");
+        }
+        String tokenHash = hash(token);
+        StoredRefreshToken stored = refreshTokenStore.find(tokenHash)
+                .orElseThrow(() -> new InvalidRefreshTokenException("유효하지 않은 리프레시 토큰입니다."));
+        boolean deleted = refreshTokenStore.delete(tokenHash);
+        if (stored.isExpired(LocalDateTime.now()) || !deleted) {
+            throw new InvalidRefreshTokenException("유효하지 않은 리프레시 토큰입니다.");
+        }
+        return stored.getUserId();
     }
 
-    public Optional<RefreshToken> findByUser(User user) {
-        return refreshTokenRepository.findByUser(user);
+    public boolean revoke(String token) {
+        return refreshTokenStore.delete(hash(token));
     }
-}
\ No newline at end of file
+
+    public int revokeAll(User user) {
+        return refreshTokenStore.deleteByUserId(user.getId());
+    }
+
+    @Scheduled(fixedDelayString = "${refresh-token.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        for (int chunk = 0; chunk < MAX_PURGE_CHUNKS; chunk++) {
+            int deleted = refreshTokenStore.purgeExpired(now, purgeBatchSize);
+            total += deleted;
+            if (deleted < purgeBatchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("만료된 리프레시 토큰 {}개 삭제", total);
+        }
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
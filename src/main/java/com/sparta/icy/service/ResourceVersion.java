@@ -0,0 +1,58 @@
+package com.sparta.icy.service;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// 조건부 GET(ETag / Last-Modified) 판단용 버전 정보
+// 본문을 만들지 않고 updated_at 등 가벼운 컬럼만 해시해서 계산합니다.
+@Getter
+public class ResourceVersion {
+    private final String etag;
+    // epoch millis, 알 수 없으면 -1 (Last-Modified 생략)
+    private final long lastModified;
+
+    private ResourceVersion(String etag, long lastModified) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        // 64-bit FNV-1a
+        private long hash = 0xcbf29ce484222325L;
+        private long lastModified = -1L;
+
+        public Builder add(long value) {
+            for (int i = 0; i < 8; i++) {
+                hash ^= (value >>> (i * 8)) & 0xff;
+                hash *= 0x100000001b3L;
+            }
+            return this;
+        }
+
+        // 수정 시각은 마이크로초까지 해시에 넣고, 가장 늦은 값을 Last-Modified 로 씁니다.
+        public Builder add(LocalDateTime time) {
+            if (time == null) {
+                return add(-1L);
+            }
+            long millis = time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            lastModified = Math.max(lastModified, millis);
+            return add(millis).add(time.getNano());
+        }
+
+        // 단건 리소스: 표현이 해시한 값들로 완전히 결정될 때
+        public ResourceVersion strong() {
+            return new ResourceVersion("\"" + Long.toHexString(hash) + "\"", lastModified);
+        }
+
+        // 목록: 같은 버전이면 의미상 같은 응답 (약한 ETag)
+        public ResourceVersion weak() {
+            return new ResourceVersion("W/\"" + Long.toHexString(hash) + "\"", lastModified);
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.sparta.icy.service;
 
+import com.sparta.icy.dto.BatchResponseDto;
 import com.sparta.icy.dto.SignoutRequestDto;
 import com.sparta.icy.dto.SignupRequestDto;
 import com.sparta.icy.dto.UserProfileResponse;
 import com.sparta.icy.dto.UserUpdateRequest;
+import com.sparta.icy.entity.AuditAction;
 import com.sparta.icy.entity.User;
 import com.sparta.icy.entity.UserStatus;
 import com.sparta.icy.exception.AlreadySignedOutUserCannotBeSignoutAgainException;
@@ -12,7 +14,9 @@ import com.sparta.icy.exception.InvalidUserException;
 import com.sparta.icy.exception.InvalidPasswordException;
 import com.sparta.icy.jwt.JwtUtil;
 import com.sparta.icy.repository.UserRepository;
+import com.sparta.icy.security.TokenRevocationService;
 import com.sparta.icy.security.UserDetailsImpl;
+import com.sparta.icy.security.UserDetailsServiceImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
@@ -22,6 +26,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 
@@ -34,7 +39,11 @@ public class UserService {
     private final JwtUtil jwtUtil;
     private final LogService logService;
     private final MessageSource messageSource;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshTokenService refreshTokenService;
 
+    @Transactional(readOnly = true)
     public UserProfileResponse getUser(long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("해당 사용자는 존재하지 않습니다."));
@@ -45,6 +54,14 @@ public class UserService {
         return new UserProfileResponse(user.getUsername(), user.getNickname(), user.getIntro(), user.getEmail());
     }
 
+    // 여러 회원을 IN 쿼리 한 번으로 조회합니다. 탈퇴한 회원은 getUser 와 마찬가지로 찾을 수 없는 회원으로 취급합니다.
+    @Transactional(readOnly = true)
+    public BatchResponseDto<UserProfileResponse> getUsers(List<Long> ids) {
+        List<Long> distinctIds = BatchResponseDto.distinctIds(ids);
+        return BatchResponseDto.inRequestOrder(distinctIds,
+                userRepository.findProfilesByIdIn(distinctIds, UserStatus.SECESSION.getStatus()), UserProfileResponse::getId);
+    }
+
     @Transactional
     public User updateUser(long id, UserUpdateRequest req) {
         User currentUser = getcurrentUser();
@@ -68,7 +85,10 @@ public class UserService {
         }
         req.setNewPassword(passwordEncoder.encode(req.getNewPassword()));
         user.update(req);
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        // 캐시된 사용자 정보(옛 비밀번호/닉네임)를 바로 비웁니다.
+        userDetailsService.evictCachedUser(user.getUsername());
+        return saved;
     }
 
     private boolean isValidPassword(String password) {
@@ -93,7 +113,6 @@ public class UserService {
     @Transactional
     public void signup(SignupRequestDto requestDto) {
         String username = requestDto.getUsername();
-        String password = passwordEncoder.encode(requestDto.getPassword());
         // 회원 중복 확인
         Optional<User> checkUsername = userRepository.findByUsername(username);
         if (checkUsername.isPresent()) {
@@ -101,6 +120,8 @@ public class UserService {
                     "already.exist", null, "Duplicate user exists.", Locale.getDefault()
             ));
         }
+        // 해시는 비싸므로 중복 확인을 통과한 뒤에만 계산합니다.
+        String password = passwordEncoder.encode(requestDto.getPassword());
         //회원 상태 등록
         UserStatus status=UserStatus.IN_ACTION;
         // 사용자 등록
@@ -125,8 +146,13 @@ public class UserService {
             // 탈퇴한 회원으로 전환
             checkUsername.setStatus(UserStatus.SECESSION.getStatus());
             userRepository.save(checkUsername); // 변경된 상태를 저장
+            // 탈퇴한 회원의 토큰이 캐시된 사용자 정보로 통과하지 않도록 바로 비웁니다.
+            userDetailsService.evictCachedUser(userDetailsUsername);
+            // 아직 만료되지 않은 토큰도 거절하고, 리프레시 토큰으로 재발급받지 못하게 합니다.
+            tokenRevocationService.revokeAll(checkUsername.getId());
+            refreshTokenService.revokeAll(checkUsername);
             // 탈퇴한 회원 로그 추가
-            logService.addLog(userDetailsUsername, "탈퇴");
+            logService.addLog(checkUsername.getId(), AuditAction.SIGNOUT);
             return true;
         } catch (InvalidPasswordException | AlreadySignedOutUserCannotBeSignoutAgainException e) {
             log.error(e.getMessage(), e);
@@ -0,0 +1,251 @@
+package com.sparta.icy.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * 실행되는 모든 JDBC 문장의 시간을 재서 SqlStatistics 에 넘기는 DataSource.
+ * Connection / Statement / ResultSet 을 JDK 프록시로 감싸고,
+ * 파라미터는 setLong → Long 처럼 setter 이름에서 타입만 기록합니다 (값은 보지 않음).
+ * 조회 시간은 execute 호출까지이고, 행 수는 ResultSet.next() 가 true 를 돌려준 횟수입니다.
+ * 빈을 감싸도 종료 시 커넥션 풀이 닫히도록 close 를 원본에 넘깁니다.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private static final ClassLoader LOADER = InstrumentedDataSource.class.getClassLoader();
+
+    private final SqlStatistics statistics;
+
+    public InstrumentedDataSource(DataSource target, SqlStatistics statistics) {
+        super(target);
+        this.statistics = statistics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(LOADER, new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    // equals / hashCode 는 프록시 기준, unwrap / isWrapperFor 는 원본에 넘깁니다.
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> null;
+        };
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement" -> statement(PreparedStatement.class, (Statement) result, (String) args[0]);
+                case "prepareCall" -> statement(CallableStatement.class, (Statement) result, (String) args[0]);
+                case "createStatement" -> statement(Statement.class, (Statement) result, null);
+                default -> result;
+            };
+        }
+
+        private Object statement(Class<? extends Statement> type, Statement statement, String sql) {
+            return Proxy.newProxyInstance(LOADER, new Class<?>[]{type}, new StatementHandler(statement, sql));
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private String sql;
+        private String[] parameters = new String[8];
+        private int parameterCount;
+        private SqlStatistics.Entry lastEntry;
+
+        private StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameter(index, name, args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameterCount = 0;
+            } else if (name.equals("addBatch") && args != null && args.length == 1) {
+                sql = (String) args[0];
+            }
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            // execute() 뒤 getResultSet 으로 읽는 결과도 같은 문장의 행 수로 셉니다 (생성 키는 제외).
+            if (name.equals("getResultSet") && result instanceof ResultSet resultSet && lastEntry != null) {
+                return resultSet(resultSet, lastEntry);
+            }
+            return result;
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            if (args != null && args.length > 0 && args[0] instanceof String statementSql) {
+                sql = statementSql;
+            }
+            String parameterShape = parameterShape();
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = InstrumentedDataSource.invoke(target, method, args);
+            } catch (Throwable e) {
+                lastEntry = record(System.nanoTime() - start, parameterShape, 0, true);
+                throw e;
+            }
+            long elapsed = System.nanoTime() - start;
+            lastEntry = record(elapsed, parameterShape, updateCount(result), false);
+            if (result instanceof ResultSet resultSet) {
+                return resultSet(resultSet, lastEntry);
+            }
+            return result;
+        }
+
+        private SqlStatistics.Entry record(long nanos, String parameterShape, long rows, boolean error) {
+            return statistics.record(sql != null ? sql : "(unknown)", parameterShape, nanos, rows, error);
+        }
+
+        private void parameter(int index, String setter, Object value) {
+            if (index < 1) {
+                return;
+            }
+            if (index > parameters.length) {
+                parameters = Arrays.copyOf(parameters, Math.max(index, parameters.length * 2));
+            }
+            String type;
+            if (setter.equals("setNull") || value == null) {
+                type = "null";
+            } else if (setter.equals("setObject")) {
+                type = value.getClass().getSimpleName();
+            } else {
+                type = setter.substring(3);
+            }
+            parameters[index - 1] = type;
+            parameterCount = Math.max(parameterCount, index);
+        }
+
+        private String parameterShape() {
+            if (parameterCount == 0) {
+                return "()";
+            }
+            StringBuilder shape = new StringBuilder(parameterCount * 8).append('(');
+            for (int i = 0; i < parameterCount; i++) {
+                if (i > 0) {
+                    shape.append(", ");
+                }
+                shape.append(parameters[i]);
+            }
+            return shape.append(')').toString();
+        }
+
+        private Object resultSet(ResultSet resultSet, SqlStatistics.Entry entry) {
+            return Proxy.newProxyInstance(LOADER, new Class<?>[]{ResultSet.class}, new ResultSetHandler(resultSet, entry));
+        }
+    }
+
+    // int / long / int[] / long[] 로 돌아온 변경 행 수 (SUCCESS_NO_INFO 같은 음수는 제외)
+    private static long updateCount(Object result) {
+        if (result instanceof Integer count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof Long count) {
+            return Math.max(count, 0);
+        }
+        long sum = 0;
+        if (result instanceof int[] counts) {
+            for (int count : counts) {
+                sum += Math.max(count, 0);
+            }
+        } else if (result instanceof long[] counts) {
+            for (long count : counts) {
+                sum += Math.max(count, 0);
+            }
+        }
+        return sum;
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+        private final ResultSet target;
+        private final SqlStatistics.Entry entry;
+        private long rows;
+
+        private ResultSetHandler(ResultSet target, SqlStatistics.Entry entry) {
+            this.target = target;
+            this.entry = entry;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+            String name = method.getName();
+            if (name.equals("close") && rows > 0) {
+                entry.addRows(rows);
+                rows = 0;
+            }
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            if (name.equals("next") && Boolean.TRUE.equals(result)) {
+                rows++;
+            }
+            return result;
+        }
+    }
+}
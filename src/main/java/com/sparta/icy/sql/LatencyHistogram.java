@@ -0,0 +1,65 @@
+package com.sparta.icy.sql;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 마이크로초 단위 로그 버킷 히스토그램 (2배 구간마다 8칸, 오차 12.5% 이내).
+ * 기록은 배열 칸 하나의 원자적 증가뿐이라 잠금이 없고, 문장 모양마다 2.5KB 정도만 씁니다.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // 2^40 µs (약 12일) 이상은 마지막 칸에 넣습니다.
+    private static final int MAX_OCTAVE = 40;
+    private static final int BUCKETS = (MAX_OCTAVE - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    void record(long micros) {
+        counts.incrementAndGet(indexOf(micros));
+    }
+
+    // 0 < p <= 1, 값은 해당 칸의 상한 (µs)
+    long percentile(double p) {
+        long total = 0;
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(p * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    static int indexOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) Math.max(micros, 0);
+        }
+        int octave = 63 - Long.numberOfLeadingZeros(micros);
+        if (octave > MAX_OCTAVE) {
+            return BUCKETS - 1;
+        }
+        int sub = (int) (micros >>> (octave - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (octave - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int octave = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int sub = index % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + sub + 1) << (octave - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -0,0 +1,21 @@
+package com.sparta.icy.sql;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드 한 번 실행에 허용하는 SQL 문장 수.
+ * max 는 전체 문장 수, maxRepeats 는 같은 모양의 문장을 실행해도 되는 횟수입니다 (N+1 감지).
+ * 선언하지 않은 메서드는 sql.query-budget.default-max / default-max-repeats 를 씁니다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+    int max();
+
+    int maxRepeats() default 1;
+}
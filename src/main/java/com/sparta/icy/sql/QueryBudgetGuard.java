@@ -0,0 +1,78 @@
+package com.sparta.icy.sql;
+
+import com.sparta.icy.exception.QueryBudgetExceededException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 핸들러 실행이 끝난 뒤 SqlContext.Scope 의 문장 수를 @QueryBudget 과 비교합니다.
+ * 넘으면 경고 로그를 남기고, fail-on-violation 이면(테스트 프로필) QueryBudgetExceededException 을 던집니다.
+ * InstrumentedDataSource 가 센 문장만 보므로 sql.stats.enabled=false 이면 아무것도 검사하지 않습니다.
+ */
+@Slf4j(topic = "쿼리 예산")
+@Component
+public class QueryBudgetGuard {
+
+    private final ConcurrentHashMap<Method, Budget> budgets = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final int defaultMax;
+    private final int defaultMaxRepeats;
+    private final boolean failOnViolation;
+
+    public QueryBudgetGuard(@Value("${sql.query-budget.enabled:true}") boolean enabled,
+                            @Value("${sql.query-budget.default-max:30}") int defaultMax,
+                            @Value("${sql.query-budget.default-max-repeats:10}") int defaultMaxRepeats,
+                            @Value("${sql.query-budget.fail-on-violation:false}") boolean failOnViolation) {
+        this.enabled = enabled;
+        this.defaultMax = defaultMax;
+        this.defaultMaxRepeats = defaultMaxRepeats;
+        this.failOnViolation = failOnViolation;
+    }
+
+    public void check(Method method, SqlContext.Scope scope) {
+        if (!enabled || scope.getStatements() == 0) {
+            return;
+        }
+        Budget budget = budgets.get(method);
+        if (budget == null) {
+            budget = budgets.computeIfAbsent(method, this::budgetOf);
+        }
+        String violation = null;
+        if (scope.getStatements() > budget.max) {
+            violation = "SQL " + scope.getStatements() + "개 실행 (한도 " + budget.max + ")";
+        } else if (scope.getMostRepeatedCount() > budget.maxRepeats) {
+            violation = "같은 SQL " + scope.getMostRepeatedCount() + "번 반복 (한도 " + budget.maxRepeats + "): "
+                    + scope.getMostRepeatedShape();
+        }
+        if (violation == null) {
+            return;
+        }
+        String message = scope.getEndpoint() + ": " + violation;
+        if (failOnViolation) {
+            throw new QueryBudgetExceededException(message);
+        }
+        log.warn(message);
+    }
+
+    private Budget budgetOf(Method method) {
+        QueryBudget annotation = AnnotatedElementUtils.findMergedAnnotation(method, QueryBudget.class);
+        return annotation != null
+                ? new Budget(annotation.max(), annotation.maxRepeats())
+                : new Budget(defaultMax, defaultMaxRepeats);
+    }
+
+    private static final class Budget {
+        private final int max;
+        private final int maxRepeats;
+
+        private Budget(int max, int maxRepeats) {
+            this.max = max;
+            this.maxRepeats = maxRepeats;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.sparta.icy.sql;
+
+import java.util.HashMap;
+
+/**
+ * 지금 스레드에서 실행되는 SQL 을 어느 컨트롤러 메서드가 일으켰는지 기록합니다.
+ * ControllerAop 가 핸들러 실행 전후로 enter / exit 하고,
+ * 그 사이에 실행된 문장 수와 같은 모양이 반복된 횟수를 Scope 에 셉니다 (QueryBudgetGuard 가 확인).
+ * 요청 밖(스케줄러, 감사 로그 writer, 마이그레이션)에서 실행된 SQL 은 NO_ENDPOINT 로 묶입니다.
+ */
+public final class SqlContext {
+
+    public static final String NO_ENDPOINT = "-";
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private SqlContext() {
+    }
+
+    public static Scope enter(String endpoint) {
+        Scope scope = new Scope(endpoint, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    // 중첩 호출이면 바깥 범위로 돌아갑니다.
+    public static void exit(Scope scope) {
+        if (scope.previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(scope.previous);
+        }
+    }
+
+    public static String endpoint() {
+        Scope scope = CURRENT.get();
+        return scope != null ? scope.endpoint : NO_ENDPOINT;
+    }
+
+    static void onStatement(String shape) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.onStatement(shape);
+        }
+    }
+
+    public static final class Scope {
+        private final String endpoint;
+        private final Scope previous;
+        private int statements;
+        // 문장이 하나도 없는 요청(캐시/스냅샷 응답)은 map 을 만들지 않습니다.
+        private HashMap<String, Integer> shapes;
+        private String mostRepeatedShape;
+        private int mostRepeatedCount;
+
+        private Scope(String endpoint, Scope previous) {
+            this.endpoint = endpoint;
+            this.previous = previous;
+        }
+
+        private void onStatement(String shape) {
+            statements++;
+            if (shapes == null) {
+                shapes = new HashMap<>();
+            }
+            int count = shapes.merge(shape, 1, Integer::sum);
+            if (count > mostRepeatedCount) {
+                mostRepeatedCount = count;
+                mostRepeatedShape = shape;
+            }
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public String getMostRepeatedShape() {
+            return mostRepeatedShape;
+        }
+
+        public int getMostRepeatedCount() {
+            return mostRepeatedCount;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.sparta.icy.sql;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 문장 모양: 리터럴을 ? 로 바꾸고, 주석을 지우고, 공백을 하나로, IN 목록을 (?...) 로 줄입니다.
+ * Hibernate 가 만드는 문장은 이미 ? 를 쓰므로 대부분 주석/공백 정리와 IN 목록 접기만 일어납니다.
+ * 같은 문자열이 반복해서 들어오므로 결과를 max 개까지 캐시합니다.
+ */
+final class SqlShapes {
+
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin \\(\\?(?:, ?\\?)*\\)");
+
+    private final ConcurrentHashMap<String, String> cache = new ConcurrentHashMap<>();
+    private final int max;
+
+    SqlShapes(int max) {
+        this.max = max;
+    }
+
+    String shapeOf(String sql) {
+        String shape = cache.get(sql);
+        if (shape == null) {
+            shape = normalize(sql);
+            if (cache.size() < max) {
+                cache.put(sql, shape);
+            }
+        }
+        return shape;
+    }
+
+    static String normalize(String sql) {
+        StringBuilder out = new StringBuilder(sql.length());
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+                space(out);
+            } else if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? length : end + 1;
+                space(out);
+            } else if (c == '\'') {
+                // '' 는 문자열 안의 따옴표
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                i++;
+                out.append('?');
+            } else if (Character.isDigit(c) && !identifierBefore(out)) {
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                out.append('?');
+            } else if (Character.isWhitespace(c)) {
+                space(out);
+                i++;
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+        int end = out.length();
+        if (end > 0 && out.charAt(end - 1) == ' ') {
+            out.setLength(end - 1);
+        }
+        return IN_LIST.matcher(out).replaceAll("in (?...)");
+    }
+
+    private static void space(StringBuilder out) {
+        if (out.length() > 0 && out.charAt(out.length() - 1) != ' ') {
+            out.append(' ');
+        }
+    }
+
+    // n1_0 같은 별칭 안의 숫자는 리터럴이 아닙니다.
+    private static boolean identifierBefore(StringBuilder out) {
+        if (out.length() == 0) {
+            return false;
+        }
+        char previous = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '.' || previous == '`';
+    }
+}
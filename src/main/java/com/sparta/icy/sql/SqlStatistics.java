@@ -0,0 +1,142 @@
+package com.sparta.icy.sql;
+
+import com.sparta.icy.dto.SqlStatementStatsDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * (문장 모양, 엔드포인트) 별 실행 횟수, 오류 수, 읽은/바꾼 행 수, 지연 시간 분포.
+ * InstrumentedDataSource 가 실행마다 기록하고 /actuator/sqlstats 로 조회합니다.
+ * 항목 수는 max-statements 로 제한하고, 넘치면 엔드포인트별 OVERFLOW_SHAPE 한 줄로 모읍니다.
+ * slow-query.threshold 보다 오래 걸린 문장은 모양과 파라미터 타입만 로그에 남깁니다 (값은 남기지 않음).
+ */
+@Slf4j(topic = "느린 쿼리")
+@Component
+public class SqlStatistics {
+
+    static final String OVERFLOW_SHAPE = "(기록 한도 초과)";
+
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, Entry>> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final SqlShapes shapes;
+    private final int maxStatements;
+    private final long slowThresholdNanos;
+
+    public SqlStatistics(@Value("${sql.stats.max-statements:1000}") int maxStatements,
+                         @Value("${sql.slow-query.threshold:200ms}") Duration slowThreshold) {
+        this.shapes = new SqlShapes(maxStatements * 4);
+        this.maxStatements = maxStatements;
+        this.slowThresholdNanos = slowThreshold.isZero() ? Long.MAX_VALUE : slowThreshold.toNanos();
+    }
+
+    /**
+     * 실행 한 번을 기록하고 항목을 돌려줍니다 (ResultSet 을 다 읽은 뒤 행 수를 더하기 위해).
+     * parameters 는 "(Long, String)" 같은 타입 목록입니다.
+     */
+    public Entry record(String sql, String parameters, long nanos, long rows, boolean error) {
+        String shape = shapes.shapeOf(sql);
+        SqlContext.onStatement(shape);
+        String endpoint = SqlContext.endpoint();
+        Entry entry = entry(shape, endpoint);
+        entry.record(nanos, rows, error, parameters);
+        if (nanos >= slowThresholdNanos) {
+            log.warn("{}ms [{}] {} params={}", TimeUnit.NANOSECONDS.toMillis(nanos), endpoint, shape, parameters);
+        }
+        return entry;
+    }
+
+    private Entry entry(String shape, String endpoint) {
+        ConcurrentHashMap<String, Entry> byEndpoint = entries.get(shape);
+        Entry entry = byEndpoint != null ? byEndpoint.get(endpoint) : null;
+        if (entry != null) {
+            return entry;
+        }
+        if (size.get() >= maxStatements && !OVERFLOW_SHAPE.equals(shape)) {
+            return entry(OVERFLOW_SHAPE, endpoint);
+        }
+        return entries.computeIfAbsent(shape, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(endpoint, key -> {
+                    size.incrementAndGet();
+                    return new Entry(shape, endpoint);
+                });
+    }
+
+    // 전체 소요 시간이 큰 순서로 limit 개, endpoint 를 주면 그 엔드포인트만
+    public List<SqlStatementStatsDto> snapshot(int limit, String endpoint) {
+        List<Entry> selected = new ArrayList<>();
+        for (ConcurrentHashMap<String, Entry> byEndpoint : entries.values()) {
+            for (Entry entry : byEndpoint.values()) {
+                if (endpoint == null || endpoint.equals(entry.endpoint)) {
+                    selected.add(entry);
+                }
+            }
+        }
+        selected.sort(Comparator.comparingLong((Entry entry) -> entry.totalNanos.sum()).reversed());
+        List<SqlStatementStatsDto> result = new ArrayList<>(Math.min(limit, selected.size()));
+        for (int i = 0; i < selected.size() && i < limit; i++) {
+            result.add(selected.get(i).toDto());
+        }
+        return result;
+    }
+
+    public void reset() {
+        entries.clear();
+        size.set(0);
+    }
+
+    public static final class Entry {
+        private final String shape;
+        private final String endpoint;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        // 마지막으로 본 파라미터 타입 목록 (값 없음)
+        private volatile String parameters;
+
+        private Entry(String shape, String endpoint) {
+            this.shape = shape;
+            this.endpoint = endpoint;
+        }
+
+        private void record(long nanos, long rowCount, boolean error, String parameterShape) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            histogram.record(nanos / 1_000);
+            if (rowCount > 0) {
+                rows.add(rowCount);
+            }
+            if (error) {
+                errors.increment();
+            }
+            parameters = parameterShape;
+        }
+
+        public void addRows(long rowCount) {
+            rows.add(rowCount);
+        }
+
+        private SqlStatementStatsDto toDto() {
+            long executions = count.sum();
+            double total = totalNanos.sum() / 1_000_000.0;
+            return new SqlStatementStatsDto(shape, endpoint, parameters, executions, errors.sum(), rows.sum(),
+                    total, executions == 0 ? 0 : total / executions,
+                    histogram.percentile(0.5) / 1_000.0, histogram.percentile(0.95) / 1_000.0,
+                    histogram.percentile(0.99) / 1_000.0, maxNanos.get() / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.sparta.icy.sql;
+
+import com.sparta.icy.dto.SqlStatementStatsDto;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * GET /actuator/sqlstats?limit=50&endpoint=NewsfeedController.getNewsfeeds
+ * 전체 소요 시간이 큰 문장부터 보여줍니다. DELETE 로 누적값을 비웁니다.
+ */
+@Component
+@Endpoint(id = "sqlstats")
+public class SqlStatsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 50;
+
+    private final SqlStatistics statistics;
+
+    public SqlStatsEndpoint(SqlStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @ReadOperation
+    public List<SqlStatementStatsDto> statements(@Nullable Integer limit, @Nullable String endpoint) {
+        return statistics.snapshot(limit != null && limit > 0 ? limit : DEFAULT_LIMIT, endpoint);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statistics.reset();
+    }
+}
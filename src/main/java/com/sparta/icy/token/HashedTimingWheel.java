@@ -0,0 +1,79 @@
+package com.sparta.icy.token;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 만료 시각별로 키를 모아두는 해시 타이밍 휠.
+ * 등록은 슬롯 하나에 넣는 O(1) 이고, advance 는 지난 틱의 슬롯만 훑습니다.
+ * 한 바퀴보다 먼 만료는 같은 슬롯에 섞여 있으므로, 슬롯을 훑을 때 expireIfDue 가
+ * 실제 만료 여부를 판단해 true 를 돌려준 키만 휠에서 빠집니다.
+ */
+public class HashedTimingWheel<K> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final Set<K>[] slots;
+    // 여기까지의 틱은 처리했음
+    private volatile long lastTick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(Duration tick, int slotCount, long startMillis) {
+        if (tick.toMillis() <= 0) {
+            throw new IllegalArgumentException("tick must be at least 1ms");
+        }
+        if (slotCount <= 0 || Integer.bitCount(slotCount) != 1) {
+            throw new IllegalArgumentException("slotCount must be a power of two");
+        }
+        this.tickMillis = tick.toMillis();
+        this.mask = slotCount - 1;
+        this.slots = new Set[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = ConcurrentHashMap.newKeySet();
+        }
+        this.lastTick = startMillis / tickMillis;
+    }
+
+    public void schedule(K key, long deadlineMillis) {
+        // 이미 지난 틱에 넣으면 한 바퀴 뒤에야 보게 되므로 다음 틱으로 당깁니다.
+        long tick = Math.max(deadlineMillis / tickMillis, lastTick + 1);
+        slots[(int) (tick & mask)].add(key);
+    }
+
+    /**
+     * nowMillis 까지의 슬롯을 훑어 expireIfDue 가 true 인 키를 최대 limit 개 휠에서 뺍니다.
+     * limit 에 닿으면 보던 틱부터 다음 호출에서 이어서 봅니다.
+     * 오래 멈춰 있었다면 모든 슬롯을 한 번씩만 봅니다.
+     */
+    public synchronized int advance(long nowMillis, int limit, Predicate<K> expireIfDue) {
+        long nowTick = nowMillis / tickMillis;
+        long ticks = Math.min(nowTick - lastTick, slots.length);
+        int expired = 0;
+        for (long tick = nowTick - ticks + 1; tick <= nowTick; tick++) {
+            Set<K> slot = slots[(int) (tick & mask)];
+            for (K key : slot) {
+                if (expired >= limit) {
+                    lastTick = tick - 1;
+                    return expired;
+                }
+                if (expireIfDue.test(key) && slot.remove(key)) {
+                    expired++;
+                }
+            }
+        }
+        if (nowTick > lastTick) {
+            lastTick = nowTick;
+        }
+        return expired;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Set<K> slot : slots) {
+            size += slot.size();
+        }
+        return size;
+    }
+}
@@ -0,0 +1,87 @@
+package com.sparta.icy.token;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 메모리에 두는 리프레시 토큰 저장소 (테스트, 단일 인스턴스용).
+ * 조회는 해시 키 O(1), 만료 정리는 타이밍 휠이 해당 틱의 슬롯만 봅니다.
+ */
+@Component
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private static final Duration TICK = Duration.ofSeconds(1);
+    private static final int SLOTS = 1024;
+
+    private final ConcurrentHashMap<String, StoredRefreshToken> tokens = new ConcurrentHashMap<>();
+    private final HashedTimingWheel<String> wheel;
+
+    public InMemoryRefreshTokenStore() {
+        this.wheel = new HashedTimingWheel<>(TICK, SLOTS, toMillis(LocalDateTime.now()));
+    }
+
+    @Override
+    public void save(String tokenHash, Long userId, LocalDateTime expiryDate) {
+        tokens.put(tokenHash, new StoredRefreshToken(tokenHash, userId, expiryDate));
+        wheel.schedule(tokenHash, toMillis(expiryDate));
+    }
+
+    @Override
+    public Optional<StoredRefreshToken> find(String tokenHash) {
+        return Optional.ofNullable(tokens.get(tokenHash));
+    }
+
+    @Override
+    public boolean delete(String tokenHash) {
+        // 휠에 남은 키는 다음에 슬롯을 훑을 때 같이 빠집니다.
+        return tokens.remove(tokenHash) != null;
+    }
+
+    @Override
+    public int deleteByUserId(Long userId) {
+        int deleted = 0;
+        for (StoredRefreshToken token : tokens.values()) {
+            if (token.getUserId().equals(userId) && tokens.remove(token.getTokenHash(), token)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public int purgeExpired(LocalDateTime now, int limit) {
+        int[] purged = {0};
+        // limit 은 휠에서 빼는 키 수 기준입니다 (먼저 지워진 키 포함). 남은 키는 다음 호출에서 이어서 봅니다.
+        wheel.advance(toMillis(now), limit, tokenHash -> {
+            StoredRefreshToken token = tokens.get(tokenHash);
+            if (token == null) {
+                return true;
+            }
+            if (token.isExpired(now) && tokens.remove(tokenHash, token)) {
+                purged[0]++;
+                return true;
+            }
+            return false;
+        });
+        return purged[0];
+    }
+
+    int size() {
+        return tokens.size();
+    }
+
+    int scheduled() {
+        return wheel.size();
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
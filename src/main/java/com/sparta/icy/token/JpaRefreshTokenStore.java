@@ -0,0 +1,114 @@
+package com.sparta.icy.token;
+
+import com.sparta.icy.entity.RefreshToken;
+import com.sparta.icy.entity.User;
+import com.sparta.icy.repository.RefreshTokenRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * refresh_token 테이블에 두는 리프레시 토큰 저장소 (기본값).
+ * 조회/삭제는 token_hash 기본키로 합니다.
+ * 만료 정리는 이 인스턴스가 저장한 토큰을 타이밍 휠에서 만료 시각이 된 것만 꺼내 기본키로 지우고,
+ * 청크가 남으면 expiry_date 인덱스 범위 조회로 채웁니다. (다른 인스턴스가 저장했거나 재시작 전에 저장한 토큰,
+ * 휠이 가득 차 등록하지 못한 토큰)
+ */
+@Component
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private static final Duration TICK = Duration.ofSeconds(1);
+    private static final int SLOTS = 1024;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final EntityManager entityManager;
+    private final HashedTimingWheel<StoredRefreshToken> wheel;
+    // 휠에 등록된 토큰 수 (먼저 삭제된 토큰도 만료 시각까지는 휠에 남습니다)
+    private final AtomicInteger scheduled = new AtomicInteger();
+    private final int wheelCapacity;
+
+    public JpaRefreshTokenStore(RefreshTokenRepository refreshTokenRepository, EntityManager entityManager,
+                                @Value("${refresh-token.wheel-capacity:100000}") int wheelCapacity) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.entityManager = entityManager;
+        this.wheelCapacity = wheelCapacity;
+        this.wheel = new HashedTimingWheel<>(TICK, SLOTS, toMillis(LocalDateTime.now()));
+    }
+
+    @Override
+    @Transactional
+    public void save(String tokenHash, Long userId, LocalDateTime expiryDate) {
+        // 새 키이므로 merge(select 후 insert) 대신 persist 로 insert 한 번만 합니다.
+        entityManager.persist(new RefreshToken(tokenHash, entityManager.getReference(User.class, userId), expiryDate));
+        if (scheduled.incrementAndGet() <= wheelCapacity) {
+            wheel.schedule(new StoredRefreshToken(tokenHash, userId, expiryDate), toMillis(expiryDate));
+        } else {
+            scheduled.decrementAndGet();
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<StoredRefreshToken> find(String tokenHash) {
+        return refreshTokenRepository.findStoredByTokenHash(tokenHash);
+    }
+
+    @Override
+    @Transactional
+    public boolean delete(String tokenHash) {
+        return refreshTokenRepository.deleteByTokenHash(tokenHash) > 0;
+    }
+
+    @Override
+    @Transactional
+    public int deleteByUserId(Long userId) {
+        return refreshTokenRepository.deleteByUserId(userId);
+    }
+
+    // 청크마다 트랜잭션을 따로 써서 락을 짧게 잡습니다.
+    @Override
+    @Transactional
+    public int purgeExpired(LocalDateTime now, int limit) {
+        Set<String> expired = new LinkedHashSet<>();
+        int drained = wheel.advance(toMillis(now), limit, token -> {
+            if (!token.isExpired(now)) {
+                return false;
+            }
+            expired.add(token.getTokenHash());
+            return true;
+        });
+        scheduled.addAndGet(-drained);
+        if (expired.size() < limit) {
+            for (String tokenHash : refreshTokenRepository.findExpiredHashes(now, PageRequest.of(0, limit))) {
+                if (expired.size() >= limit) {
+                    break;
+                }
+                expired.add(tokenHash);
+            }
+        }
+        if (expired.isEmpty()) {
+            return 0;
+        }
+        return refreshTokenRepository.deleteByTokenHashIn(expired);
+    }
+
+    int scheduled() {
+        return scheduled.get();
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,23 @@
+package com.sparta.icy.token;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 리프레시 토큰 저장소. 키는 항상 토큰의 SHA-256 hex 입니다.
+ * refresh-token.store 값으로 구현을 고릅니다 (jpa: 기본, memory: 테스트/단일 인스턴스용).
+ */
+public interface RefreshTokenStore {
+
+    void save(String tokenHash, Long userId, LocalDateTime expiryDate);
+
+    Optional<StoredRefreshToken> find(String tokenHash);
+
+    // 실제로 지웠을 때만 true (같은 토큰을 동시에 두 번 쓰는 것을 막는 데 씁니다)
+    boolean delete(String tokenHash);
+
+    int deleteByUserId(Long userId);
+
+    // 만료된 토큰을 최대 limit 개 정도 지우고 지운 개수를 돌려줍니다.
+    int purgeExpired(LocalDateTime now, int limit);
+}
@@ -0,0 +1,25 @@
+package com.sparta.icy.token;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장소에 있는 리프레시 토큰 한 건 (원문 없이 해시만).
+ */
+@Getter
+public class StoredRefreshToken {
+    private final String tokenHash;
+    private final Long userId;
+    private final LocalDateTime expiryDate;
+
+    public StoredRefreshToken(String tokenHash, Long userId, LocalDateTime expiryDate) {
+        this.tokenHash = tokenHash;
+        this.userId = userId;
+        this.expiryDate = expiryDate;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiryDate.isAfter(now);
+    }
+}
@@ -0,0 +1,59 @@
+-- ddl-auto: update 로 생성되던 스키마를 그대로 옮긴 기준 버전입니다.
+-- 이미 테이블이 있는 DB 는 baseline-on-migrate 로 V1 을 건너뜁니다.
+
+CREATE TABLE IF NOT EXISTS users (
+    id                  BIGINT       NOT NULL AUTO_INCREMENT,
+    username            VARCHAR(255) NOT NULL,
+    nickname            VARCHAR(255) NOT NULL,
+    password            VARCHAR(255) NOT NULL,
+    email               VARCHAR(255) NOT NULL,
+    intro               VARCHAR(255) NOT NULL,
+    status              VARCHAR(255) NOT NULL,
+    refresh_created_at  DATETIME(6),
+    refresh_modified_at DATETIME(6),
+    status_modified_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_nickname UNIQUE (nickname),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS newsfeed (
+    id                BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id           BIGINT       NOT NULL,
+    title             VARCHAR(255) NOT NULL,
+    recruitment_count INT          NOT NULL,
+    content           VARCHAR(255) NOT NULL,
+    created_at        DATETIME(6)  NOT NULL,
+    updated_at        DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_newsfeed_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS comment (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT       NOT NULL,
+    feed_id    BIGINT       NOT NULL,
+    content    VARCHAR(255) NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    updated_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comment_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_comment_newsfeed FOREIGN KEY (feed_id) REFERENCES newsfeed (id)
+);
+
+CREATE TABLE IF NOT EXISTS refresh_token (
+    token       VARCHAR(255) NOT NULL,
+    user_id     BIGINT,
+    expiry_date DATETIME(6),
+    PRIMARY KEY (token),
+    CONSTRAINT fk_refresh_token_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS log (
+    id        BIGINT NOT NULL AUTO_INCREMENT,
+    username  VARCHAR(255),
+    action    VARCHAR(255),
+    timestamp DATETIME(6),
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,13 @@
+-- 리포지토리 쿼리에 맞춘 인덱스
+
+-- NewsfeedRepository.findLatest / findLatestBefore
+-- ORDER BY created_at DESC, id DESC 와 같은 방향으로 만들어 정렬 없이 인덱스 순서대로 읽습니다.
+CREATE INDEX idx_newsfeed_created_at_id ON newsfeed (created_at DESC, id DESC);
+
+-- CommentRepository.findByNewsfeedId (feed_id 조건 + id 순서)
+CREATE INDEX idx_comment_feed_id_id ON comment (feed_id, id);
+
+-- RefreshTokenRepository.findByUser / deleteByUser
+CREATE INDEX idx_refresh_token_user_id ON refresh_token (user_id);
+
+-- users.username 조회는 uk_users_username 유니크 인덱스를 사용합니다.
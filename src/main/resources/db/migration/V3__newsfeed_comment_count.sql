@@ -0,0 +1,5 @@
+-- 게시물 목록에 댓글 수를 보여주기 위한 카운터 컬럼
+-- 댓글 작성/삭제 시 CommentService 가 함께 증감합니다.
+ALTER TABLE newsfeed ADD COLUMN comment_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE newsfeed SET comment_count = (SELECT COUNT(*) FROM comment c WHERE c.feed_id = newsfeed.id);
@@ -0,0 +1,17 @@
+-- 리프레시 토큰을 원문 대신 SHA-256(hex) 로 저장하고, 만료 정리용 인덱스를 둡니다.
+-- 기존 행은 원문 토큰이 키라서 옮길 수 없으므로 지웁니다 (해당 사용자는 다시 로그인하면 새 토큰을 받습니다).
+DROP TABLE refresh_token;
+
+CREATE TABLE refresh_token (
+    token_hash  VARCHAR(64) NOT NULL,
+    user_id     BIGINT      NOT NULL,
+    expiry_date DATETIME(6) NOT NULL,
+    PRIMARY KEY (token_hash),
+    CONSTRAINT fk_refresh_token_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+-- RefreshTokenRepository.deleteByUserId
+CREATE INDEX idx_refresh_token_user_id ON refresh_token (user_id);
+
+-- RefreshTokenRepository.findExpiredHashes (만료된 행을 청크 단위로 정리)
+CREATE INDEX idx_refresh_token_expiry_date ON refresh_token (expiry_date);
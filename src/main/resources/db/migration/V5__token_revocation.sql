@@ -0,0 +1,10 @@
+-- 사용자별 토큰 폐기 기준 시각 (로그아웃/탈퇴). 이 시각 이전에 발급된 JWT 는 거절합니다.
+CREATE TABLE token_revocation (
+    user_id    BIGINT      NOT NULL,
+    revoked_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT fk_token_revocation_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+-- TokenRevocationRepository.findByRevokedAtAfter / deleteByRevokedAtBefore
+CREATE INDEX idx_token_revocation_revoked_at ON token_revocation (revoked_at);
@@ -0,0 +1,41 @@
+-- 감사 로그를 작은 행으로: 문자열 action 대신 코드(SMALLINT), username 대신 user_id, 시각 인덱스
+-- 코드: 0 기타, 1 로그인, 2 로그아웃, 3 탈퇴 (AuditAction)
+CREATE TABLE log_compact (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT,
+    action     SMALLINT    NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_log_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+INSERT INTO log_compact (user_id, action, created_at)
+SELECT u.id,
+       CASE l.action WHEN '로그인' THEN 1 WHEN '로그아웃' THEN 2 WHEN '탈퇴' THEN 3 ELSE 0 END,
+       COALESCE(l.timestamp, CURRENT_TIMESTAMP)
+FROM log l
+LEFT JOIN users u ON u.username = l.username
+ORDER BY l.id;
+
+DROP TABLE log;
+ALTER TABLE log_compact RENAME TO log;
+
+-- 기간 집계, 보존 기간 정리 (AuditRollupJob)
+CREATE INDEX idx_log_created_at ON log (created_at);
+
+-- 일별/action 별 집계. 집계가 끝난 날의 원본 행은 보존 기간이 지나면 지웁니다.
+CREATE TABLE log_daily_count (
+    log_date    DATE     NOT NULL,
+    action      SMALLINT NOT NULL,
+    event_count BIGINT   NOT NULL,
+    PRIMARY KEY (log_date, action)
+);
+
+-- 여기까지(이 날짜 전날까지) 집계했음. 행은 하나뿐입니다.
+CREATE TABLE log_rollup_state (
+    id           INT  NOT NULL,
+    rolled_until DATE,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO log_rollup_state (id, rolled_until) VALUES (1, NULL);
@@ -0,0 +1,13 @@
+-- 엔티티 id 를 IDENTITY 대신 테이블 기반 pooled 방식으로 발급합니다 (50개씩 미리 할당).
+-- insert 마다 생성 키를 돌려받지 않아도 되므로 Hibernate 가 insert 를 JDBC batch 로 묶을 수 있습니다.
+-- next_val 은 다음에 할당할 구간의 끝 값이라서 기존 최대 id + 50 으로 시작합니다.
+-- (log 는 AuditLogWriter 가 JDBC 로 쓰므로 AUTO_INCREMENT 를 그대로 씁니다.)
+CREATE TABLE id_sequences (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val      BIGINT,
+    PRIMARY KEY (sequence_name)
+);
+
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'users', COALESCE(MAX(id), 0) + 50 FROM users;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'newsfeed', COALESCE(MAX(id), 0) + 50 FROM newsfeed;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'comment', COALESCE(MAX(id), 0) + 50 FROM comment;
@@ -0,0 +1,9 @@
+-- 복제 지연 측정용 heartbeat: 앱이 primary 의 beat_at 을 주기적으로 갱신하고,
+-- 각 replica 에서 읽은 beat_at 과 현재 시각의 차이를 지연으로 봅니다 (ReplicaLagMonitor).
+CREATE TABLE replication_heartbeat (
+    id      INT         NOT NULL,
+    beat_at TIMESTAMP(3) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, CURRENT_TIMESTAMP(3));
@@ -0,0 +1,14 @@
+-- 외래 키 컬럼에 인덱스가 두 개씩 생기지 않도록 외래 키가 이름 있는 인덱스 하나만 쓰게 합니다.
+-- 외래 키를 인덱스보다 먼저 만들면 DB 가 외래 키용 인덱스를 따로 만들고, H2 등은 뒤에 만든 인덱스가 있어도 그대로 남겨 둡니다.
+-- 외래 키를 지웠다 다시 만들면 컬럼이 같은 기존 인덱스를 재사용하고, 따로 만든 인덱스는 외래 키와 함께 사라집니다.
+
+-- comment(feed_id): InnoDB 보조 인덱스는 끝에 PK(id) 를 포함하므로 (feed_id) 만으로 feed_id 조건 + id 순서를 인덱스로 읽습니다.
+-- (feed_id, id) 는 외래 키 인덱스와 겹치므로 (feed_id) 하나로 바꿉니다.
+ALTER TABLE comment DROP FOREIGN KEY fk_comment_newsfeed;
+ALTER TABLE comment DROP INDEX idx_comment_feed_id_id;
+CREATE INDEX idx_comment_feed_id ON comment (feed_id);
+ALTER TABLE comment ADD CONSTRAINT fk_comment_newsfeed FOREIGN KEY (feed_id) REFERENCES newsfeed (id);
+
+-- refresh_token(user_id): V4 의 idx_refresh_token_user_id 를 외래 키 인덱스로 씁니다.
+ALTER TABLE refresh_token DROP FOREIGN KEY fk_refresh_token_user;
+ALTER TABLE refresh_token ADD CONSTRAINT fk_refresh_token_user FOREIGN KEY (user_id) REFERENCES users (id);
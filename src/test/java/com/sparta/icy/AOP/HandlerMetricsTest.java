@@ -0,0 +1,42 @@
+package com.sparta.icy.AOP;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class HandlerMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HandlerMetrics handlerMetrics = new HandlerMetrics(meterRegistry);
+
+    // 테스트용 핸들러
+    public String getBoards() {
+        return "boards";
+    }
+
+    @Test
+    @DisplayName("메서드마다 한 번만 등록하고 처리 시간/오류/처리 중 요청 수를 기록")
+    void recordPerHandler() throws NoSuchMethodException {
+        Method method = HandlerMetricsTest.class.getMethod("getBoards");
+        HandlerMetrics.Handler handler = handlerMetrics.handler(method);
+        assertSame(handler, handlerMetrics.handler(method));
+        assertEquals("HandlerMetricsTest.getBoards", handler.getName());
+
+        long start = handler.start();
+        assertEquals(1.0, meterRegistry.get(HandlerMetrics.IN_FLIGHT).tag("handler", handler.getName()).gauge().value());
+        handler.stop(start, null);
+        handler.stop(handler.start(), new IllegalArgumentException());
+
+        Timer timer = meterRegistry.get(HandlerMetrics.LATENCY).tag("handler", handler.getName()).timer();
+        assertEquals(2, timer.count());
+        assertEquals(0.0, meterRegistry.get(HandlerMetrics.IN_FLIGHT).gauge().value());
+        assertEquals(1.0, meterRegistry.get(HandlerMetrics.ERRORS)
+                .tags("handler", handler.getName(), "exception", "IllegalArgumentException").counter().count());
+    }
+}
@@ -0,0 +1,85 @@
+package com.sparta.icy.audit;
+
+import com.sparta.icy.entity.AuditAction;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.Duration;
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class AuditLogWriterTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AuditLogWriter writer(int capacity, int batchSize, OverflowPolicy policy) {
+        // start() 를 부르지 않아 백그라운드 스레드 없이 drainOnce 로 직접 비웁니다.
+        return new AuditLogWriter(jdbcTemplate, capacity, batchSize, Duration.ofMillis(200), policy, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("batch-size 개씩 나눠 batch insert")
+    void drainInBatches() {
+        AuditLogWriter writer = writer(100, 2, OverflowPolicy.DROP);
+        writer.append(1L, AuditAction.LOGIN);
+        writer.append(2L, AuditAction.LOGIN);
+        writer.append(3L, AuditAction.LOGOUT);
+
+        assertEquals(2, writer.drainOnce());
+        assertEquals(1, writer.drainOnce());
+        assertEquals(0, writer.drainOnce());
+        verify(jdbcTemplate, times(2)).batchUpdate(eq(AuditLogWriter.INSERT_SQL), ArgumentMatchers.<Collection<AuditEvent>>any(), anyInt(),
+                ArgumentMatchers.<ParameterizedPreparedStatementSetter<AuditEvent>>any());
+        assertEquals(3, meterRegistry.counter("audit.log.written").count());
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 버리고 개수를 셈")
+    void dropOnOverflow() {
+        AuditLogWriter writer = writer(2, 10, OverflowPolicy.DROP);
+        writer.append(1L, AuditAction.LOGIN);
+        writer.append(2L, AuditAction.LOGIN);
+        writer.append(3L, AuditAction.LOGIN);
+
+        assertEquals(2, writer.queued());
+        assertEquals(1, meterRegistry.counter("audit.log.dropped").count());
+    }
+
+    @Test
+    @DisplayName("caller-runs 면 넘친 이벤트를 요청 스레드에서 바로 저장")
+    void callerRunsOnOverflow() {
+        AuditLogWriter writer = writer(1, 10, OverflowPolicy.CALLER_RUNS);
+        writer.append(1L, AuditAction.LOGIN);
+        writer.append(2L, AuditAction.LOGIN);
+
+        assertEquals(1, writer.queued());
+        // 큐를 거치지 않고 한 건 바로 저장됨
+        assertEquals(1, meterRegistry.counter("audit.log.written").count());
+        assertEquals(0, meterRegistry.counter("audit.log.dropped").count());
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 이벤트를 모두 저장")
+    void flushOnShutdown() throws InterruptedException {
+        AuditLogWriter writer = writer(100, 2, OverflowPolicy.DROP);
+        for (int i = 0; i < 5; i++) {
+            writer.append((long) i, AuditAction.LOGIN);
+        }
+
+        writer.shutdown();
+
+        assertEquals(0, writer.queued());
+        assertEquals(5, meterRegistry.counter("audit.log.written").count());
+    }
+}
@@ -0,0 +1,93 @@
+package com.sparta.icy.audit;
+
+import com.sparta.icy.dto.ActivityCountDto;
+import com.sparta.icy.entity.AuditAction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class AuditRollupJobTest {
+
+    private static final LocalDate DAY1 = LocalDate.of(2024, 6, 1);
+    private static final LocalDate DAY2 = LocalDate.of(2024, 6, 2);
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 3);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private AuditActivityRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new AuditActivityRepository(jdbcTemplate);
+        insert(AuditAction.LOGIN, DAY1.atTime(9, 0));
+        insert(AuditAction.LOGIN, DAY1.atTime(23, 59));
+        insert(AuditAction.LOGOUT, DAY1.atTime(12, 0));
+        insert(AuditAction.LOGIN, DAY2.atTime(0, 0));
+        insert(AuditAction.SIGNOUT, TODAY.atTime(8, 0));
+    }
+
+    private void insert(AuditAction action, LocalDateTime createdAt) {
+        jdbcTemplate.update(AuditLogWriter.INSERT_SQL, null, action.getCode(), Timestamp.valueOf(createdAt));
+    }
+
+    private AuditRollupJob job(Duration retention) {
+        return new AuditRollupJob(jdbcTemplate, transactionTemplate, repository, retention, 2);
+    }
+
+    @Test
+    @DisplayName("끝난 날만 일별/action 별로 집계하고, 다시 돌려도 같은 결과")
+    void rollupCompletedDays() {
+        AuditRollupJob job = job(Duration.ofDays(90));
+
+        assertEquals(2, job.rollup(TODAY));
+        assertEquals(TODAY, repository.findRolledUntil());
+        assertEquals(0, job.rollup(TODAY));
+
+        List<ActivityCountDto> counts = repository.findRolledUp(DAY1, TODAY);
+        assertEquals(3, counts.size());
+        assertEquals(AuditAction.LOGIN, counts.get(0).getAction());
+        assertEquals(2, counts.get(0).getCount());
+        assertEquals(AuditAction.LOGOUT, counts.get(1).getAction());
+        assertEquals(DAY2, counts.get(2).getDate());
+
+        // 오늘 것은 원본에서 셈
+        List<ActivityCountDto> today = repository.countRaw(TODAY, TODAY.plusDays(1));
+        assertEquals(1, today.size());
+        assertEquals(AuditAction.SIGNOUT, today.get(0).getAction());
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지났고 집계된 원본만 청크 단위로 삭제")
+    void purgeRolledUpRowsPastRetention() {
+        AuditRollupJob job = job(Duration.ofDays(1));
+
+        // 집계 전에는 지우지 않음
+        assertEquals(0, job.purge(TODAY));
+
+        job.rollup(TODAY);
+        assertEquals(3, job.purge(TODAY));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM log", Integer.class));
+        // 집계는 남아 있음
+        assertEquals(3, repository.findRolledUp(DAY1, DAY2).stream().mapToLong(ActivityCountDto::getCount).sum());
+    }
+}
@@ -0,0 +1,148 @@
+package com.sparta.icy.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.icy.dto.ImportResultDto;
+import com.sparta.icy.entity.Newsfeed;
+import com.sparta.icy.entity.User;
+import com.sparta.icy.entity.UserStatus;
+import com.sparta.icy.repository.NewsfeedRepository;
+import com.sparta.icy.search.NewsfeedSearchIndex;
+import com.sparta.icy.service.LatestNewsfeedSnapshot;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class BulkImporterTest {
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private NewsfeedRepository newsfeedRepository;
+    @Autowired
+    private TestEntityManager em;
+
+    private final NewsfeedSearchIndex searchIndex = mock(NewsfeedSearchIndex.class);
+    private final LatestNewsfeedSnapshot latestSnapshot = mock(LatestNewsfeedSnapshot.class);
+    private BulkImporter importer;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = em.persist(new User("bulkuser01", "bulkNickname", "Aa123456789!", "bulk@example.com", "intro", UserStatus.IN_ACTION));
+        em.flush();
+        // 청크 경계를 넘는 댓글 참조도 확인하도록 청크를 작게 잡습니다.
+        importer = new BulkImporter(entityManager, transactionTemplate, newsfeedRepository, searchIndex,
+                latestSnapshot, new ConcurrentMapCacheManager("newsfeed"), new ObjectMapper().findAndRegisterModules(), 2);
+    }
+
+    private ImportResultDto importLines(String... lines) throws Exception {
+        return importLinesAs(null, lines);
+    }
+
+    private ImportResultDto importLinesAs(Long authorId, String... lines) throws Exception {
+        String body = String.join("\n", lines) + "\n";
+        return importer.importNdjson(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), authorId);
+    }
+
+    @Test
+    @DisplayName("게시물과 ref 로 이어진 댓글을 가져오고 댓글 수를 맞춘다")
+    void importPostsAndComments() throws Exception {
+        Long userId = user.getId();
+        ImportResultDto result = importLines(
+                "{\"type\":\"post\",\"ref\":\"p1\",\"userId\":" + userId + ",\"title\":\"제목1\",\"recruitmentCount\":3,\"content\":\"내용1\"}",
+                "{\"type\":\"post\",\"ref\":\"p2\",\"userId\":" + userId + ",\"title\":\"제목2\",\"content\":\"내용2\",\"createdAt\":\"2024-06-01T10:00:00\"}",
+                "",
+                "{\"type\":\"comment\",\"postRef\":\"p1\",\"userId\":" + userId + ",\"content\":\"댓글1\"}",
+                "{\"type\":\"comment\",\"postRef\":\"p1\",\"userId\":" + userId + ",\"content\":\"댓글2\"}",
+                "{\"type\":\"comment\",\"postRef\":\"p2\",\"userId\":" + userId + ",\"content\":\"댓글3\"}");
+
+        assertEquals(2, result.getPosts());
+        assertEquals(3, result.getComments());
+
+        List<Newsfeed> feeds = entityManager
+                .createQuery("select n from Newsfeed n order by n.id", Newsfeed.class)
+                .getResultList();
+        assertEquals(2, feeds.size());
+        assertEquals("제목1", feeds.get(0).getTitle());
+        assertEquals(2, feeds.get(0).getCommentCount());
+        assertEquals(1, feeds.get(1).getCommentCount());
+        assertEquals(2024, feeds.get(1).getCreated_at().getYear());
+        assertTrue(feeds.get(0).getId() < feeds.get(1).getId());
+
+        verify(searchIndex).index(feeds.get(0).getId(), "제목1", "내용1");
+        verify(searchIndex).index(feeds.get(1).getId(), "제목2", "내용2");
+        verify(latestSnapshot).invalidate();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 줄은 줄 번호와 함께 거절한다")
+    void rejectInvalidLine() {
+        Long userId = user.getId();
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> importLines(
+                "{\"type\":\"post\",\"userId\":" + userId + ",\"title\":\"제목\",\"content\":\"내용\"}",
+                "{\"type\":\"photo\",\"userId\":" + userId + ",\"content\":\"내용\"}"));
+        assertTrue(e.getMessage().startsWith("2번째 줄"));
+
+        assertThrows(IllegalArgumentException.class, () -> importLines("{not json"));
+    }
+
+    @Test
+    @DisplayName("앞에 없는 postRef 는 거절한다")
+    void rejectUnknownRef() {
+        Long userId = user.getId();
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> importLines(
+                "{\"type\":\"comment\",\"postRef\":\"nope\",\"userId\":" + userId + ",\"content\":\"댓글\"}"));
+        assertTrue(e.getMessage().contains("nope"));
+    }
+
+    @Test
+    @DisplayName("API 가져오기는 createdAt 을 무시하고 가져온 시각으로 저장한다")
+    void apiImportIgnoresCreatedAt() throws Exception {
+        importLinesAs(user.getId(),
+                "{\"type\":\"post\",\"title\":\"제목\",\"content\":\"내용\",\"createdAt\":\"2099-01-01T00:00:00\"}");
+
+        Newsfeed feed = entityManager
+                .createQuery("select n from Newsfeed n", Newsfeed.class)
+                .getSingleResult();
+        assertNotEquals(2099, feed.getCreated_at().getYear());
+        assertEquals(user.getId(), feed.getUser().getId());
+    }
+
+    @Test
+    @DisplayName("뒤 청크가 제약 위반으로 실패해도 원인을 남기고 스냅샷을 버린다")
+    void laterChunkFailureStillInvalidates() {
+        Long userId = user.getId();
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> importLines(
+                "{\"type\":\"post\",\"ref\":\"p1\",\"userId\":" + userId + ",\"title\":\"제목1\",\"content\":\"내용1\"}",
+                "{\"type\":\"post\",\"userId\":" + userId + ",\"title\":\"제목2\",\"content\":\"내용2\"}",
+                "{\"type\":\"post\",\"userId\":999999,\"title\":\"제목3\",\"content\":\"내용3\"}"));
+        assertTrue(e.getMessage().startsWith("3~3번째 줄"));
+        assertNotNull(e.getCause());
+        verify(latestSnapshot).invalidate();
+    }
+}
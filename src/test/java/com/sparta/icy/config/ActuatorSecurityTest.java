@@ -0,0 +1,58 @@
+package com.sparta.icy.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 운영용 actuator 엔드포인트는 security.actuator.admin-usernames 에 있는 사용자만 쓸 수 있습니다.
+ */
+@SpringBootTest(properties = "security.actuator.admin-usernames=opsadmin")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ActuatorSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("일반 사용자는 캐시를 조회하거나 비울 수 없음")
+    void cachesForbiddenForMembers() throws Exception {
+        mockMvc.perform(get("/actuator/caches").with(user("member01")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/actuator/caches").with(user("member01")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/actuator/caches"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("운영자는 캐시를 비울 수 있음")
+    void cachesAllowedForAdmins() throws Exception {
+        mockMvc.perform(delete("/actuator/caches").with(user("opsadmin")))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @DisplayName("SQL 통계 조회/초기화도 운영자만")
+    void sqlStatsOnlyForAdmins() throws Exception {
+        mockMvc.perform(get("/actuator/sqlstats").with(user("member01")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/actuator/sqlstats").with(user("member01")))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/actuator/sqlstats").with(user("opsadmin")))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/actuator/sqlstats").with(user("opsadmin")))
+                .andExpect(status().isNoContent());
+    }
+}
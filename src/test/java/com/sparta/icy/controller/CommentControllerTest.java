@@ -1,11 +1,13 @@
 package com.sparta.icy.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.icy.dto.CommentPageResponseDto;
 import com.sparta.icy.dto.CommentRequestDto;
 import com.sparta.icy.dto.CommentResponseDto;
 import com.sparta.icy.entity.Comment;
 import com.sparta.icy.exception.EntityNotFoundException;
 import com.sparta.icy.service.CommentService;
+import com.sparta.icy.service.ResourceVersion;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -24,10 +26,12 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -51,6 +55,8 @@ public class CommentControllerTest {
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        given(commentService.getCommentPageVersion(anyLong(), any(), anyInt())).willReturn(ResourceVersion.builder().add(1L).weak());
+        given(commentService.getCommentsVersion(anyLong())).willReturn(ResourceVersion.builder().add(2L).weak());
     }
 
     @Nested
@@ -111,7 +117,7 @@ public class CommentControllerTest {
         given(commentService.getComments(feedId)).willReturn(responseDtos);
 
         // When
-        ResultActions result = mockMvc.perform(get("/comments/{feedId}", feedId));
+        ResultActions result = mockMvc.perform(get("/comments/{feedId}", feedId).param("unpaged", "true"));
 
         // Then
         result.andExpect(status().isOk())
@@ -119,6 +125,32 @@ public class CommentControllerTest {
                 .andExpect(jsonPath("$[1].content").value(responseDto2.getContent()));
     }
 
+    @Test
+    @WithMockUser
+    @DisplayName("댓글 페이지 조회 성공")
+    public void getCommentPageSuccess() throws Exception {
+        // Given
+        Long feedId = 1L;
+        LocalDateTime now = LocalDateTime.now();
+        List<CommentResponseDto> comments = Arrays.asList(
+                new CommentResponseDto(11L, "첫 댓글", now, now),
+                new CommentResponseDto(12L, "두번째 댓글", now, now));
+
+        given(commentService.getCommentPage(feedId, 10L, 2)).willReturn(new CommentPageResponseDto(comments, 12L));
+
+        // When
+        ResultActions result = mockMvc.perform(get("/comments/{feedId}", feedId)
+                .param("cursor", "10")
+                .param("size", "2"));
+
+        // Then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments[0].id").value(11))
+                .andExpect(jsonPath("$.comments[1].content").value("두번째 댓글"))
+                .andExpect(jsonPath("$.nextCursor").value(12))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
     @Nested
     @DisplayName("댓글 수정")
     class updateCommentTest{
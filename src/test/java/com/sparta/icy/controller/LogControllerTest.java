@@ -5,8 +5,11 @@ import com.sparta.icy.config.WebSecurityConfig;
 import com.sparta.icy.dto.LoginRequestDto;
 import com.sparta.icy.exception.EntityNotFoundException;
 import com.sparta.icy.exception.InvalidPasswordException;
+import com.sparta.icy.exception.InvalidRefreshTokenException;
+import com.sparta.icy.jwt.JwtUtil;
 import com.sparta.icy.repository.UserRepository;
 import com.sparta.icy.service.LogService;
+import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.*;
@@ -23,6 +26,9 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
@@ -106,14 +112,43 @@ class LogControllerTest {
         }
 
     }
+    @Test
+    @DisplayName("리프레시 토큰으로 재발급")
+    void refreshSuccess() throws Exception {
+        mvc.perform(MockMvcRequestBuilders.post("/logs/refresh")
+                        .cookie(new Cookie(JwtUtil.REFRESH_TOKEN_HEADER, "refresh-token")))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().string("토큰이 재발급되었습니다."));
+
+        verify(logService).refresh(eq("refresh-token"), any(HttpServletResponse.class));
+    }
+
+    @Test
+    @DisplayName("재발급 실패 - 사용했거나 만료된 리프레시 토큰")
+    void refreshFailure() throws Exception {
+        when(logService.refresh(any(), any(HttpServletResponse.class)))
+                .thenThrow(new InvalidRefreshTokenException("유효하지 않은 리프레시 토큰입니다."));
+
+        mvc.perform(MockMvcRequestBuilders.post("/logs/refresh"))
+                .andExpect(MockMvcResultMatchers.status().isUnauthorized());
+    }
+
     @Test
     @DisplayName("로그아웃 요청")
     void logoutSuccess() throws Exception {
         // When
-        mvc.perform(MockMvcRequestBuilders.get("/logs/logout"))
+        mvc.perform(MockMvcRequestBuilders.post("/logs/logout"))
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.content().string("로그아웃되었습니다."));
         // Then
-        verify(logService).logout(any(HttpServletResponse.class));
+        verify(logService).logout(isNull(), isNull(), any(HttpServletResponse.class));
+    }
+
+    @Test
+    @DisplayName("로그아웃은 GET 으로 받지 않는다")
+    void logoutRejectsGet() throws Exception {
+        mvc.perform(MockMvcRequestBuilders.get("/logs/logout"))
+                .andExpect(MockMvcResultMatchers.status().isMethodNotAllowed());
+        verify(logService, never()).logout(any(), any(), any(HttpServletResponse.class));
     }
 }
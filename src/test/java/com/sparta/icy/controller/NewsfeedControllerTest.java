@@ -1,10 +1,19 @@
 package com.sparta.icy.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.icy.bulk.BulkImporter;
+import com.sparta.icy.dto.BatchResponseDto;
+import com.sparta.icy.dto.ImportResultDto;
 import com.sparta.icy.dto.NewsfeedDto;
+import com.sparta.icy.dto.NewsfeedPageResponseDto;
 import com.sparta.icy.dto.NewsfeedResponseDto;
+import com.sparta.icy.dto.NewsfeedSearchResponseDto;
 import com.sparta.icy.entity.Newsfeed;
+import com.sparta.icy.entity.User;
+import com.sparta.icy.entity.UserStatus;
+import com.sparta.icy.security.UserDetailsImpl;
 import com.sparta.icy.service.NewsfeedService;
+import com.sparta.icy.service.ResourceVersion;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,23 +27,35 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(NewsfeedController.class)
@@ -47,12 +68,17 @@ public class NewsfeedControllerTest {
     @MockBean
     private NewsfeedService newsfeedService;
 
+    @MockBean
+    private BulkImporter bulkImporter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        given(newsfeedService.getNewsfeedPageVersion(any(), anyInt())).willReturn(ResourceVersion.builder().add(1L).weak());
+        given(newsfeedService.getAllNewsfeedVersion()).willReturn(ResourceVersion.builder().add(2L).weak());
     }
 
     @Nested
@@ -218,7 +244,7 @@ public class NewsfeedControllerTest {
             given(newsfeedService.getAllNewsfeed()).willReturn(Arrays.asList());
 
             // When
-            mockMvc.perform(get("/boards").with(csrf()))
+            mockMvc.perform(get("/boards").param("unpaged", "true").with(csrf()))
                     .andExpect(status().isOk())
                     .andExpect(MockMvcResultMatchers.content().string("먼저 작성하여 소식을 알려보세요!"));
         }
@@ -242,7 +268,7 @@ public class NewsfeedControllerTest {
             given(newsfeedService.getAllNewsfeed()).willReturn(Arrays.asList(responseDto1, responseDto2));
 
             // When
-            mockMvc.perform(get("/boards").with(csrf()))
+            mockMvc.perform(get("/boards").param("unpaged", "true").with(csrf()))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$[0].id").value(1))
                     .andExpect(jsonPath("$[0].title").value("제목1"))
@@ -254,4 +280,250 @@ public class NewsfeedControllerTest {
                     .andExpect(jsonPath("$[1].content").value("내용2"));
         }
     }
+
+    @Nested
+    @DisplayName("게시물 페이지 조회")
+    @WithMockUser
+    class GetNewsfeedPageTest {
+
+        @Test
+        @DisplayName("첫 페이지 조회 - 다음 커서 포함")
+        public void getFirstPage() throws Exception {
+            // Given
+            NewsfeedResponseDto responseDto = new NewsfeedResponseDto();
+            responseDto.setId(3L);
+            responseDto.setTitle("제목3");
+
+            given(newsfeedService.getNewsfeedPage(null, 1))
+                    .willReturn(new NewsfeedPageResponseDto(List.of(responseDto), "next-cursor"));
+
+            // When
+            mockMvc.perform(get("/boards").param("size", "1").with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.newsfeeds[0].id").value(3))
+                    .andExpect(jsonPath("$.nextCursor").value("next-cursor"))
+                    .andExpect(jsonPath("$.hasNext").value(true));
+        }
+
+        @Test
+        @DisplayName("마지막 페이지 조회 - 다음 커서 없음")
+        public void getLastPage() throws Exception {
+            // Given
+            given(newsfeedService.getNewsfeedPage("cursor", NewsfeedService.DEFAULT_PAGE_SIZE))
+                    .willReturn(new NewsfeedPageResponseDto(List.of(), null));
+
+            // When
+            mockMvc.perform(get("/boards").param("cursor", "cursor").with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.newsfeeds").isEmpty())
+                    .andExpect(jsonPath("$.hasNext").value(false));
+        }
+
+        @Test
+        @DisplayName("페이지 크기 초과")
+        public void getPageTooLarge() throws Exception {
+            // Given
+            given(newsfeedService.getNewsfeedPage(null, 1000))
+                    .willThrow(new IllegalArgumentException("페이지 크기는 1 이상 100 이하여야 합니다."));
+
+            // When
+            mockMvc.perform(get("/boards").param("size", "1000").with(csrf()))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("게시물 검색")
+    @WithMockUser
+    class SearchNewsfeedTest {
+
+        @Test
+        @DisplayName("검색 성공")
+        public void searchSuccess() throws Exception {
+            // Given
+            NewsfeedResponseDto responseDto = new NewsfeedResponseDto();
+            responseDto.setId(7L);
+            responseDto.setTitle("스프링 스터디");
+
+            given(newsfeedService.searchNewsfeeds("스프링", 0, NewsfeedService.DEFAULT_PAGE_SIZE))
+                    .willReturn(new NewsfeedSearchResponseDto(List.of(responseDto), 1, 0, NewsfeedService.DEFAULT_PAGE_SIZE));
+
+            // When
+            mockMvc.perform(get("/boards/search").param("q", "스프링").with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.newsfeeds[0].id").value(7))
+                    .andExpect(jsonPath("$.totalHits").value(1));
+        }
+
+        @Test
+        @DisplayName("검색어 누락")
+        public void searchWithoutQuery() throws Exception {
+            given(newsfeedService.searchNewsfeeds(" ", 0, NewsfeedService.DEFAULT_PAGE_SIZE))
+                    .willThrow(new IllegalArgumentException("검색어가 비어있습니다."));
+
+            mockMvc.perform(get("/boards/search").param("q", " ").with(csrf()))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("게시물 일괄 조회")
+    @WithMockUser
+    class GetNewsfeedsByIdsTest {
+
+        @Test
+        @DisplayName("요청 순서 유지 및 없는 id 보고")
+        public void getNewsfeedsByIds() throws Exception {
+            // Given
+            NewsfeedResponseDto second = new NewsfeedResponseDto();
+            second.setId(2L);
+            NewsfeedResponseDto first = new NewsfeedResponseDto();
+            first.setId(1L);
+
+            given(newsfeedService.getNewsfeeds(List.of(2L, 9L, 1L)))
+                    .willReturn(new BatchResponseDto<>(List.of(second, first), List.of(9L)));
+
+            // When
+            mockMvc.perform(get("/boards").param("ids", "2,9,1").with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].id").value(2))
+                    .andExpect(jsonPath("$.items[1].id").value(1))
+                    .andExpect(jsonPath("$.missingIds[0]").value(9));
+        }
+    }
+
+    @Nested
+    @DisplayName("조건부 조회")
+    @WithMockUser
+    class ConditionalGetTest {
+
+        @Test
+        @DisplayName("ETag 가 같으면 본문 없이 304")
+        public void notModified() throws Exception {
+            // Given
+            NewsfeedResponseDto responseDto = new NewsfeedResponseDto(1L, "제목", 5, "내용",
+                    LocalDateTime.of(2024, 6, 1, 10, 0), LocalDateTime.of(2024, 6, 1, 10, 0), 1L);
+            given(newsfeedService.getNewsfeed(1L)).willReturn(responseDto);
+            ResourceVersion version = NewsfeedService.versionOf(responseDto);
+
+            // When
+            mockMvc.perform(get("/boards/{id}", 1L).header("If-None-Match", version.getEtag()).with(csrf()))
+                    .andExpect(status().isNotModified());
+        }
+
+        @Test
+        @DisplayName("ETag 가 다르면 본문과 본문에서 계산한 ETag")
+        public void modified() throws Exception {
+            // Given
+            NewsfeedResponseDto responseDto = new NewsfeedResponseDto(1L, "제목", 5, "내용",
+                    LocalDateTime.of(2024, 6, 1, 10, 0), LocalDateTime.of(2024, 6, 1, 11, 0), 1L);
+            given(newsfeedService.getNewsfeed(1L)).willReturn(responseDto);
+
+            // When
+            mockMvc.perform(get("/boards/{id}", 1L).header("If-None-Match", "\"stale\"").with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", NewsfeedService.versionOf(responseDto).getEtag()))
+                    .andExpect(header().exists("Last-Modified"))
+                    .andExpect(jsonPath("$.id").value(1));
+        }
+
+        @Test
+        @DisplayName("목록은 약한 ETag 로 304")
+        public void pageNotModified() throws Exception {
+            // When
+            mockMvc.perform(get("/boards").header("If-None-Match", ResourceVersion.builder().add(1L).weak().getEtag()).with(csrf()))
+                    .andExpect(status().isNotModified());
+
+            // Then
+            verify(newsfeedService, never()).getNewsfeedPage(any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("게시물 내보내기")
+    @WithMockUser
+    class ExportNewsfeedTest {
+
+        @Test
+        @DisplayName("한 줄에 게시물 하나씩 NDJSON 으로 스트리밍")
+        public void exportNewsfeeds() throws Exception {
+            // Given
+            NewsfeedResponseDto first = new NewsfeedResponseDto();
+            first.setId(1L);
+            first.setTitle("제목1");
+            NewsfeedResponseDto second = new NewsfeedResponseDto();
+            second.setId(2L);
+            second.setTitle("제목2");
+            given(newsfeedService.exportNewsfeeds(any())).willAnswer(invocation -> {
+                Consumer<NewsfeedResponseDto> sink = invocation.getArgument(0);
+                sink.accept(first);
+                sink.accept(second);
+                return 2L;
+            });
+
+            // When
+            MvcResult mvcResult = mockMvc.perform(get("/boards/export").with(csrf()))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Then
+            String body = mockMvc.perform(asyncDispatch(mvcResult))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(NewsfeedController.NDJSON))
+                    .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+            String[] lines = body.split("\n");
+            assertEquals(2, lines.length);
+            assertEquals(1, objectMapper.readTree(lines[0]).get("id").asInt());
+            assertEquals("제목2", objectMapper.readTree(lines[1]).get("title").asText());
+        }
+    }
+
+    @Nested
+    @DisplayName("게시물 일괄 가져오기")
+    class ImportNewsfeedsTest {
+
+        private UserDetailsImpl importer() {
+            User user = new User("importer01", "importer", "Aa123456789!", "importer@example.com", "intro", UserStatus.IN_ACTION);
+            ReflectionTestUtils.setField(user, "id", 7L);
+            return new UserDetailsImpl(user);
+        }
+
+        @Test
+        @DisplayName("로그인한 사용자를 작성자로 가져오기")
+        public void importNewsfeeds() throws Exception {
+            // Given
+            UserDetailsImpl importer = importer();
+            given(bulkImporter.importNdjson(any(), eq(7L))).willReturn(new ImportResultDto(1, 1, 5, 400));
+            String body = "{\"type\":\"post\",\"ref\":\"p1\",\"title\":\"제목\",\"content\":\"내용\"}\n"
+                    + "{\"type\":\"comment\",\"postRef\":\"p1\",\"content\":\"댓글\"}\n";
+
+            // When - Then
+            mockMvc.perform(post("/boards/import")
+                            .with(csrf())
+                            .with(SecurityMockMvcRequestPostProcessors.user(importer))
+                            .contentType(NewsfeedController.NDJSON)
+                            .content(body.getBytes(StandardCharsets.UTF_8)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.posts").value(1))
+                    .andExpect(jsonPath("$.comments").value(1));
+            verify(bulkImporter).importNdjson(any(), eq(7L));
+        }
+
+        @Test
+        @DisplayName("잘못된 줄이 있으면 400")
+        public void importInvalidLine() throws Exception {
+            // Given
+            UserDetailsImpl importer = importer();
+            given(bulkImporter.importNdjson(any(), eq(7L)))
+                    .willThrow(new IllegalArgumentException("1번째 줄: JSON 형식이 올바르지 않습니다."));
+
+            // When - Then
+            mockMvc.perform(post("/boards/import")
+                            .with(csrf())
+                            .with(SecurityMockMvcRequestPostProcessors.user(importer))
+                            .contentType(NewsfeedController.NDJSON)
+                            .content("not json"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
 }
@@ -0,0 +1,126 @@
+package com.sparta.icy.controller;
+
+import com.sparta.icy.entity.Comment;
+import com.sparta.icy.entity.Newsfeed;
+import com.sparta.icy.entity.User;
+import com.sparta.icy.entity.UserStatus;
+import com.sparta.icy.security.UserDetailsImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 실제 DB 로 조회 API 를 호출해 @QueryBudget 을 지키는지 확인합니다.
+ * 테스트 프로필은 sql.query-budget.fail-on-violation=true 라서 한도를 넘으면 요청이 예외로 실패합니다.
+ * 게시물/댓글을 여러 개 만들어 두어 N+1 이 생기면 같은 문장 반복으로 드러나게 합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class QueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private EntityManager entityManager;
+
+    private UserDetailsImpl userDetails;
+    private List<Long> userIds;
+    private List<Long> feedIds;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.of(2024, 6, 1, 10, 0);
+        List<User> users = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            User user = new User("budgetuser0" + i, "budgetNick" + i, "Aa123456789!", "budget" + i + "@example.com", "intro", UserStatus.IN_ACTION);
+            entityManager.persist(user);
+            users.add(user);
+        }
+        feedIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Newsfeed newsfeed = new Newsfeed();
+            newsfeed.setUser(users.get(i));
+            newsfeed.setTitle("예산 제목" + i);
+            newsfeed.setRecruitmentCount(3);
+            newsfeed.setContent("내용" + i);
+            newsfeed.setCreated_at(now.plusMinutes(i));
+            newsfeed.setUpdated_at(now.plusMinutes(i));
+            entityManager.persist(newsfeed);
+            feedIds.add(newsfeed.getId());
+            for (int j = 0; j < 3; j++) {
+                Comment comment = new Comment();
+                comment.setUser(users.get(j));
+                comment.setNewsfeed(newsfeed);
+                comment.setContent("댓글" + j);
+                comment.setCreated_at(now.plusMinutes(10 + j));
+                comment.setUpdated_at(now.plusMinutes(10 + j));
+                entityManager.persist(comment);
+            }
+        }
+        // 준비한 insert 가 요청 안의 문장 수에 섞이지 않도록 미리 내보냅니다.
+        entityManager.flush();
+        entityManager.createQuery("update Newsfeed n set n.commentCount = 3 where n.id in :ids")
+                .setParameter("ids", feedIds)
+                .executeUpdate();
+        entityManager.clear();
+        userIds = users.stream().map(User::getId).collect(Collectors.toList());
+        userDetails = new UserDetailsImpl(users.get(0));
+    }
+
+    private static String join(List<Long> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    @Test
+    @DisplayName("게시물 단건/일괄 조회")
+    void newsfeeds() throws Exception {
+        mockMvc.perform(get("/boards/" + feedIds.get(0)).with(user(userDetails)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/boards").param("ids", join(feedIds)).with(user(userDetails)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(3));
+    }
+
+    @Test
+    @DisplayName("댓글 페이지/일괄 조회")
+    void comments() throws Exception {
+        mockMvc.perform(get("/comments/" + feedIds.get(0)).with(user(userDetails)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/comments").param("feedIds", join(feedIds)).with(user(userDetails)))
+                .andExpect(status().isOk());
+        // 게시물마다 첫 size 개만 주고 다음 커서를 알려줍니다.
+        mockMvc.perform(get("/comments").param("feedIds", join(feedIds)).param("size", "2").with(user(userDetails)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].comments.length()").value(2))
+                .andExpect(jsonPath("$.items[0].hasNext").value(true))
+                .andExpect(jsonPath("$.items[0].nextCursor").isNumber());
+    }
+
+    @Test
+    @DisplayName("회원 단건/일괄 조회")
+    void users() throws Exception {
+        mockMvc.perform(get("/users/" + userIds.get(0)).with(user(userDetails)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/users").param("ids", join(userIds)).with(user(userDetails)))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,35 @@
+package com.sparta.icy.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BatchResponseDtoTest {
+
+    @Test
+    public void testDistinctIdsKeepsRequestOrder() {
+        assertEquals(List.of(3L, 1L, 2L), BatchResponseDto.distinctIds(Arrays.asList(3L, 1L, 3L, null, 2L, 1L)));
+    }
+
+    @Test
+    public void testDistinctIdsRejectsEmptyAndOversized() {
+        assertThrows(IllegalArgumentException.class, () -> BatchResponseDto.distinctIds(Collections.emptyList()));
+        List<Long> tooMany = LongStream.rangeClosed(1, BatchResponseDto.MAX_BATCH_SIZE + 1).boxed().toList();
+        assertThrows(IllegalArgumentException.class, () -> BatchResponseDto.distinctIds(tooMany));
+    }
+
+    @Test
+    public void testInRequestOrder() {
+        BatchResponseDto<String> response = BatchResponseDto.inRequestOrder(List.of(5L, 7L, 1L), Map.of(1L, "one", 5L, "five"));
+
+        assertEquals(List.of("five", "one"), response.getItems());
+        assertEquals(List.of(7L), response.getMissingIds());
+    }
+}
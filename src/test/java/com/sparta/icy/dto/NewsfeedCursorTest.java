@@ -0,0 +1,28 @@
+package com.sparta.icy.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class NewsfeedCursorTest {
+
+    @Test
+    public void testEncodeDecode() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 6, 1, 10, 30, 15, 123456000);
+        NewsfeedCursor cursor = new NewsfeedCursor(createdAt, 42L);
+
+        NewsfeedCursor decoded = NewsfeedCursor.decode(cursor.encode());
+
+        assertEquals(createdAt, decoded.getCreatedAt());
+        assertEquals(42L, decoded.getId());
+    }
+
+    @Test
+    public void testInvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> NewsfeedCursor.decode("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> NewsfeedCursor.decode("%%%"));
+    }
+}
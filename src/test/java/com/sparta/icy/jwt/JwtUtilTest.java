@@ -0,0 +1,89 @@
+package com.sparta.icy.jwt;
+
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey",
+                Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII)));
+        jwtUtil.init();
+    }
+
+    @Test
+    @DisplayName("Authorization 헤더의 Bearer 토큰을 먼저 사용")
+    void resolveTokenFromHeader() {
+        String token = jwtUtil.createToken("jwtuser01");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(JwtUtil.AUTHORIZATION_HEADER, token);
+        request.setCookies(new Cookie(JwtUtil.AUTHORIZATION_HEADER, "ignored"));
+
+        assertEquals(token.substring(JwtUtil.BEARER_PREFIX.length()), jwtUtil.resolveToken(request));
+    }
+
+    @Test
+    @DisplayName("헤더가 없으면 URL 인코딩된 쿠키에서 토큰을 꺼냄")
+    void resolveTokenFromCookie() {
+        String token = jwtUtil.createToken("jwtuser01");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(JwtUtil.AUTHORIZATION_HEADER,
+                URLEncoder.encode(token, StandardCharsets.UTF_8).replaceAll("\\+", "%20")));
+
+        assertEquals(token.substring(JwtUtil.BEARER_PREFIX.length()), jwtUtil.resolveToken(request));
+    }
+
+    @Test
+    @DisplayName("검증한 토큰은 캐시된 claims 를 재사용")
+    void verifyCachesClaims() {
+        String token = jwtUtil.createToken("jwtuser01").substring(JwtUtil.BEARER_PREFIX.length());
+
+        Claims first = jwtUtil.verify(token);
+        Claims second = jwtUtil.verify(token);
+
+        assertEquals("jwtuser01", first.get("username", String.class));
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 거부")
+    void verifyRejectsTamperedToken() {
+        String token = jwtUtil.createToken("jwtuser01").substring(JwtUtil.BEARER_PREFIX.length());
+        jwtUtil.verify(token);
+        // 서명의 마지막 글자는 패딩 비트만 담을 수 있으므로 첫 글자를 바꿉니다.
+        int sig = token.lastIndexOf('.') + 1;
+        char first = token.charAt(sig);
+        String tampered = token.substring(0, sig) + (first == 'A' ? 'Q' : 'A') + token.substring(sig + 1);
+
+        assertNull(jwtUtil.verify(tampered));
+        assertNull(jwtUtil.verify("not.a.token"));
+    }
+
+    @Test
+    @DisplayName("사용자 id 를 uid 클레임에 담음")
+    void userIdClaim() {
+        String token = jwtUtil.createToken(42L, "jwtuser01").substring(JwtUtil.BEARER_PREFIX.length());
+
+        Claims claims = jwtUtil.verify(token);
+        assertEquals(42L, ((Number) claims.get(JwtUtil.USER_ID_CLAIM)).longValue());
+        assertNull(jwtUtil.verify(jwtUtil.createToken("jwtuser01").substring(JwtUtil.BEARER_PREFIX.length()))
+                .get(JwtUtil.USER_ID_CLAIM));
+    }
+}
@@ -0,0 +1,156 @@
+package com.sparta.icy.repository;
+
+import com.sparta.icy.dto.CommentResponseDto;
+import com.sparta.icy.entity.Comment;
+import com.sparta.icy.entity.Newsfeed;
+import com.sparta.icy.entity.User;
+import com.sparta.icy.entity.UserStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class CommentRepositoryTest {
+
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private NewsfeedRepository newsfeedRepository;
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Newsfeed newsfeed;
+    private Comment firstComment;
+
+    @BeforeEach
+    void setUp() {
+        User user = em.persist(new User("commentuser01", "commentNick", "Aa123456789!", "comment@example.com", "intro", UserStatus.IN_ACTION));
+        LocalDateTime now = LocalDateTime.of(2024, 6, 1, 10, 0);
+        newsfeed = new Newsfeed();
+        newsfeed.setTitle("제목");
+        newsfeed.setRecruitmentCount(5);
+        newsfeed.setContent("내용");
+        newsfeed.setCreated_at(now);
+        newsfeed.setUpdated_at(now);
+        newsfeed.setUser(user);
+        newsfeed = em.persist(newsfeed);
+        for (int i = 1; i <= 5; i++) {
+            Comment comment = new Comment();
+            comment.setContent("댓글" + i);
+            comment.setCreated_at(now.plusMinutes(i));
+            comment.setUpdated_at(now.plusMinutes(i));
+            comment.setUser(user);
+            comment.setNewsfeed(newsfeed);
+            comment = em.persist(comment);
+            if (i == 1) {
+                firstComment = comment;
+            }
+        }
+        em.flush();
+        em.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("댓글 페이지는 커서 이후부터 엔티티 로딩 없이 쿼리 1회")
+    void findPageByNewsfeedId() {
+        List<CommentResponseDto> page = commentRepository.findPageByNewsfeedId(newsfeed.getId(), firstComment.getId(), PageRequest.of(0, 2));
+
+        assertEquals(2, page.size());
+        assertEquals("댓글2", page.get(0).getContent());
+        assertEquals("댓글3", page.get(1).getContent());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("댓글 수 카운터는 update 한 번으로 증감")
+    void adjustCommentCount() {
+        newsfeedRepository.adjustCommentCount(newsfeed.getId(), 1);
+        newsfeedRepository.adjustCommentCount(newsfeed.getId(), 1);
+        newsfeedRepository.adjustCommentCount(newsfeed.getId(), -1);
+
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(1, newsfeedRepository.findResponseById(newsfeed.getId()).orElseThrow().getCommentCount());
+    }
+
+    @Test
+    @DisplayName("게시물을 읽은 뒤 바뀐 댓글 수를 게시물 수정이 덮어쓰지 않음")
+    void updateKeepsConcurrentCommentCount() {
+        Newsfeed loaded = newsfeedRepository.findById(newsfeed.getId()).orElseThrow();
+        // 게시물을 읽은 뒤 다른 트랜잭션이 댓글을 단 상황
+        newsfeedRepository.adjustCommentCount(newsfeed.getId(), 1);
+
+        loaded.setTitle("수정된 제목");
+        newsfeedRepository.saveAndFlush(loaded);
+        em.clear();
+
+        Newsfeed reloaded = newsfeedRepository.findById(newsfeed.getId()).orElseThrow();
+        assertEquals("수정된 제목", reloaded.getTitle());
+        assertEquals(1, reloaded.getCommentCount());
+    }
+
+    @Test
+    @DisplayName("여러 게시물의 댓글도 쿼리 1회, 게시물마다 앞의 perFeed 개만")
+    void findFirstRowsByNewsfeedIdIn() {
+        List<CommentRepository.FeedCommentRow> rows = commentRepository.findFirstRowsByNewsfeedIdIn(List.of(newsfeed.getId(), -1L), 3);
+
+        assertEquals(3, rows.size());
+        assertEquals(newsfeed.getId(), rows.get(0).getFeedId());
+        assertEquals("댓글1", rows.get(0).getContent());
+        assertEquals("댓글3", rows.get(2).getContent());
+        assertEquals(firstComment.getCreated_at(), rows.get(0).getCreatedAt());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("댓글 단건 조회는 작성자/게시물을 함께 읽지 않음")
+    void findByIdKeepsAssociationsLazy() {
+        Comment comment = commentRepository.findById(firstComment.getId()).orElseThrow();
+
+        assertEquals(newsfeed.getId(), comment.getNewsfeed().getId());
+        assertFalse(Hibernate.isInitialized(comment.getUser()));
+        assertFalse(Hibernate.isInitialized(comment.getNewsfeed()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("게시물 삭제는 댓글 수와 관계없이 쿼리 3회")
+    void deleteNewsfeedWithoutLoadingComments() {
+        Newsfeed loaded = newsfeedRepository.findById(newsfeed.getId()).orElseThrow();
+        int deleted = commentRepository.deleteByNewsfeedId(loaded.getId());
+        newsfeedRepository.delete(loaded);
+        em.flush();
+
+        assertEquals(5, deleted);
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+        assertEquals(0, commentRepository.findResponsesByNewsfeedId(newsfeed.getId()).size());
+    }
+}
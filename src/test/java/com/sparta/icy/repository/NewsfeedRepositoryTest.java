@@ -0,0 +1,114 @@
+package com.sparta.icy.repository;
+
+import com.sparta.icy.dto.NewsfeedResponseDto;
+import com.sparta.icy.entity.Newsfeed;
+import com.sparta.icy.entity.User;
+import com.sparta.icy.entity.UserStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class NewsfeedRepositoryTest {
+
+    @Autowired
+    private NewsfeedRepository newsfeedRepository;
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+    private Newsfeed first;
+
+    @BeforeEach
+    void setUp() {
+        user = em.persist(new User("repouser001", "repoNickname", "Aa123456789!", "repo@example.com", "intro", UserStatus.IN_ACTION));
+        LocalDateTime base = LocalDateTime.of(2024, 6, 1, 10, 0);
+        first = em.persist(newsfeed("제목1", base));
+        em.persist(newsfeed("제목2", base.plusMinutes(1)));
+        em.persist(newsfeed("제목3", base.plusMinutes(2)));
+        em.flush();
+        em.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private Newsfeed newsfeed(String title, LocalDateTime createdAt) {
+        Newsfeed newsfeed = new Newsfeed();
+        newsfeed.setTitle(title);
+        newsfeed.setRecruitmentCount(5);
+        newsfeed.setContent("내용");
+        newsfeed.setCreated_at(createdAt);
+        newsfeed.setUpdated_at(createdAt);
+        newsfeed.setUser(user);
+        return newsfeed;
+    }
+
+    @Test
+    @DisplayName("단건 조회는 엔티티 로딩 없이 쿼리 1회")
+    void findResponseById() {
+        NewsfeedResponseDto dto = newsfeedRepository.findResponseById(first.getId()).orElseThrow();
+
+        assertEquals("제목1", dto.getTitle());
+        assertEquals(user.getId(), dto.getUser_id());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("목록 조회는 작성자 수와 무관하게 쿼리 1회")
+    void findLatest() {
+        List<NewsfeedResponseDto> page = newsfeedRepository.findLatest(PageRequest.of(0, 2));
+
+        assertEquals(2, page.size());
+        assertEquals("제목3", page.get(0).getTitle());
+        assertEquals("제목2", page.get(1).getTitle());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("커서 이후 페이지 조회")
+    void findLatestBefore() {
+        NewsfeedResponseDto second = newsfeedRepository.findLatest(PageRequest.of(0, 2)).get(1);
+
+        List<NewsfeedResponseDto> next = newsfeedRepository.findLatestBefore(
+                second.getCreated_at(), second.getId(), PageRequest.of(0, 2));
+
+        assertEquals(1, next.size());
+        assertEquals("제목1", next.get(0).getTitle());
+    }
+
+    @Test
+    @DisplayName("내보내기 스트림은 엔티티를 영속성 컨텍스트에 올리지 않음")
+    void streamAllResponses() {
+        List<String> titles;
+        try (Stream<NewsfeedResponseDto> rows = newsfeedRepository.streamAllResponses()) {
+            titles = rows.map(NewsfeedResponseDto::getTitle).toList();
+        }
+
+        assertEquals(List.of("제목1", "제목2", "제목3"), titles);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
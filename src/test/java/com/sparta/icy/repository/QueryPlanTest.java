@@ -0,0 +1,89 @@
+package com.sparta.icy.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 마이그레이션으로 만든 인덱스를 자주 쓰는 쿼리가 실제로 타는지 H2 EXPLAIN 으로 확인합니다.
+ * 인덱스가 빠지거나 쿼리 모양이 바뀌어 전체 스캔으로 떨어지면 실패합니다.
+ * 외래 키 컬럼은 어느 인덱스를 고를지 DB 마다 다르므로 인덱스 이름 대신 전체 스캔 여부만 봅니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class QueryPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String explain(String sql) {
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+        return String.join("\n", plan);
+    }
+
+    private void assertUsesIndex(String sql, String indexName) {
+        String plan = explain(sql);
+        assertFalse(plan.contains("tableScan"), () -> "전체 스캔 발생:\n" + plan);
+        if (indexName != null) {
+            assertTrue(plan.toUpperCase().contains(indexName.toUpperCase()), () -> indexName + " 미사용:\n" + plan);
+        }
+    }
+
+    @Test
+    @DisplayName("뉴스피드 첫 페이지")
+    void newsfeedFirstPage() {
+        assertUsesIndex("SELECT id FROM newsfeed ORDER BY created_at DESC, id DESC LIMIT 21",
+                "idx_newsfeed_created_at_id");
+    }
+
+    @Test
+    @DisplayName("뉴스피드 커서 이후 페이지")
+    void newsfeedKeysetPage() {
+        assertUsesIndex("SELECT id FROM newsfeed " +
+                        "WHERE created_at <= TIMESTAMP '2024-06-01 10:00:00' " +
+                        "AND (created_at < TIMESTAMP '2024-06-01 10:00:00' OR id < 10) " +
+                        "ORDER BY created_at DESC, id DESC LIMIT 21",
+                "idx_newsfeed_created_at_id");
+    }
+
+    @Test
+    @DisplayName("게시물별 댓글 조회")
+    void commentsByFeed() {
+        assertUsesIndex("SELECT id FROM comment WHERE feed_id = 1 ORDER BY id", null);
+    }
+
+    @Test
+    @DisplayName("사용자별 리프레시 토큰 조회")
+    void refreshTokenByUser() {
+        assertUsesIndex("SELECT token_hash FROM refresh_token WHERE user_id = 1", null);
+    }
+
+    @Test
+    @DisplayName("username 으로 사용자 조회")
+    void userByUsername() {
+        assertUsesIndex("SELECT id FROM users WHERE username = 'username11'", null);
+    }
+
+    @Test
+    @DisplayName("외래 키 컬럼에 같은 컬럼으로 시작하는 인덱스가 하나만 있음")
+    void noDuplicateForeignKeyIndexes() {
+        assertEquals(1, indexesStartingWith("COMMENT", "FEED_ID"));
+        assertEquals(1, indexesStartingWith("REFRESH_TOKEN", "USER_ID"));
+    }
+
+    private int indexesStartingWith(String table, String column) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEX_COLUMNS " +
+                "WHERE TABLE_NAME = ? AND COLUMN_NAME = ? AND ORDINAL_POSITION = 1", Integer.class, table, column);
+    }
+}
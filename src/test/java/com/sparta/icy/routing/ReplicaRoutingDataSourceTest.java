@@ -0,0 +1,159 @@
+package com.sparta.icy.routing;
+
+import com.sparta.icy.entity.User;
+import com.sparta.icy.entity.UserStatus;
+import com.sparta.icy.security.UserDetailsImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 내장 H2 두 개를 primary / replica 로 두고 라우팅을 확인합니다.
+ * 두 DB 는 복제되지 않으므로 replica 의 heartbeat 를 직접 써서 복제 지연을 흉내 냅니다.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String SERVICE_READ = "com.sparta.icy.service.CommentService.getComments";
+    private static final String CACHED_READ = "com.sparta.icy.service.NewsfeedService.getNewsfeed";
+
+    private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+    private JdbcTemplate replicaJdbc;
+    private ReplicaRoutingDataSource routing;
+    private ReplicaLagMonitor monitor;
+    private ReadYourWritesTracker tracker;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource primary = h2("routing_primary");
+        JdbcDataSource replica = h2("routing_replica");
+        prepare(primary, "primary");
+        replicaJdbc = prepare(replica, "replica");
+
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), clock::get);
+        routing = ReplicaRoutingDataSource.create(primary, List.of(replica), tracker, List.of("com.sparta.icy.service."),
+                List.of(CACHED_READ));
+        monitor = new ReplicaLagMonitor(routing, tracker, Duration.ofSeconds(2), new SimpleMeterRegistry(), clock::get);
+        jdbcTemplate = new JdbcTemplate(routing);
+        transactionManager = new DataSourceTransactionManager(routing);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static JdbcDataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+
+    private static JdbcTemplate prepare(JdbcDataSource dataSource, String name) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP TABLE IF EXISTS replication_heartbeat");
+        jdbc.execute("DROP TABLE IF EXISTS whoami");
+        jdbc.execute("CREATE TABLE replication_heartbeat (id INT PRIMARY KEY, beat_at TIMESTAMP(3) NOT NULL)");
+        jdbc.execute("INSERT INTO replication_heartbeat VALUES (1, TIMESTAMP '2000-01-01 00:00:00')");
+        jdbc.execute("CREATE TABLE whoami (name VARCHAR(20))");
+        jdbc.update("INSERT INTO whoami VALUES (?)", name);
+        return jdbc;
+    }
+
+    // replica 가 lagMillis 만큼 늦게 heartbeat 를 받은 상태로 지연을 측정합니다.
+    private void replicate(long lagMillis) {
+        replicaJdbc.update(ReplicaLagMonitor.UPDATE_SQL, new Timestamp(clock.get() - lagMillis));
+        monitor.check();
+    }
+
+    private String whoami(String transactionName, boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setName(transactionName);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM whoami", String.class));
+    }
+
+    private void login(long userId) {
+        User user = new User("routeuser01", "routeNick", "Aa123456789!", "route@example.com", "intro", UserStatus.IN_ACTION);
+        ReflectionTestUtils.setField(user, "id", userId);
+        UserDetailsImpl userDetails = new UserDetailsImpl(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    @Test
+    @DisplayName("지연을 재기 전에는 모든 읽기가 primary")
+    void primaryUntilMeasured() {
+        assertEquals("primary", whoami(SERVICE_READ, true));
+    }
+
+    @Test
+    @DisplayName("서비스의 readOnly 트랜잭션만 replica 로 간다")
+    void readOnlyServiceTransactionsUseReplica() {
+        replicate(100);
+        assertEquals("replica", whoami(SERVICE_READ, true));
+        assertEquals("primary", whoami(SERVICE_READ, false));
+        // repository 기본 트랜잭션 같은 단독 조회는 primary
+        assertEquals("primary", whoami("org.springframework.data.jpa.repository.support.SimpleJpaRepository.findById", true));
+        assertEquals("primary", jdbcTemplate.queryForObject("SELECT name FROM whoami", String.class));
+    }
+
+    @Test
+    @DisplayName("replica 가 max-lag 보다 늦으면 primary 로 돌아가고, 따라잡으면 다시 쓴다")
+    void fallBackOnLag() {
+        replicate(5_000);
+        assertEquals("primary", whoami(SERVICE_READ, true));
+        assertEquals(5_000, monitor.lagMillis(0));
+
+        replicate(500);
+        assertEquals("replica", whoami(SERVICE_READ, true));
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 사용자의 읽기는 잠시 primary 에 고정된다")
+    void readYourWrites() {
+        replicate(0);
+        login(7L);
+        TransactionTemplate write = new TransactionTemplate(transactionManager);
+        write.setName("com.sparta.icy.service.CommentService.writeComment");
+        write.executeWithoutResult(status -> jdbcTemplate.update("UPDATE whoami SET name = name"));
+
+        assertEquals("primary", whoami(SERVICE_READ, true));
+
+        // 다른 사용자는 그대로 replica
+        login(8L);
+        assertEquals("replica", whoami(SERVICE_READ, true));
+
+        // 고정 시간이 지나면 replica
+        login(7L);
+        clock.addAndGet(6_000);
+        replicate(0);
+        assertEquals("replica", whoami(SERVICE_READ, true));
+    }
+
+    @Test
+    @DisplayName("공유 캐시를 채우는 조회는 replica 가 건강해도 primary")
+    void cacheFillingReadsStayOnPrimary() {
+        replicate(0);
+        assertEquals("primary", whoami(CACHED_READ, true));
+        // 이름이 같은 prefix 로 시작하는 다른 조회는 그대로 replica
+        assertEquals("replica", whoami(CACHED_READ + "Version", true));
+    }
+}
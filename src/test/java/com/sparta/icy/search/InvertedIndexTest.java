@@ -0,0 +1,105 @@
+package com.sparta.icy.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+        index.put(1L, "스프링 백엔드 팀원 모집", "Spring Boot 와 JPA 를 함께 공부할 팀원을 찾습니다.");
+        index.put(2L, "프론트엔드 React 스터디", "React 와 TypeScript 로 토이 프로젝트를 만듭니다.");
+        index.put(3L, "Spring 스터디", "spring spring spring 입문자 환영");
+    }
+
+    @Test
+    @DisplayName("한글/영문 토큰화")
+    void tokenize() {
+        assertEquals(List.of("스프", "프링", "spring", "boot"), SearchTokenizer.tokenize("스프링, Spring-Boot!"));
+        assertEquals(List.of("팀"), SearchTokenizer.tokenize("팀"));
+    }
+
+    @Test
+    @DisplayName("영문 검색은 단어 빈도 순으로 정렬")
+    void searchEnglish() {
+        InvertedIndex.SearchResult result = index.search("spring", 0, 10);
+
+        assertEquals(2, result.getTotalHits());
+        assertEquals(List.of(3L, 1L), result.getIds());
+    }
+
+    @Test
+    @DisplayName("한글 부분 검색")
+    void searchKorean() {
+        InvertedIndex.SearchResult result = index.search("스터디", 0, 10);
+
+        assertEquals(2, result.getTotalHits());
+        assertTrue(result.getIds().containsAll(List.of(2L, 3L)));
+    }
+
+    @Test
+    @DisplayName("페이지 나눔")
+    void paging() {
+        InvertedIndex.SearchResult first = index.search("spring", 0, 1);
+        InvertedIndex.SearchResult second = index.search("spring", 1, 1);
+
+        assertEquals(List.of(3L), first.getIds());
+        assertEquals(List.of(1L), second.getIds());
+    }
+
+    @Test
+    @DisplayName("수정/삭제 반영")
+    void updateAndRemove() {
+        index.put(2L, "Spring 프로젝트", "React 에서 Spring 으로 변경");
+        index.remove(3L);
+
+        InvertedIndex.SearchResult result = index.search("spring", 0, 10);
+        assertEquals(2, result.getTotalHits());
+        assertTrue(result.getIds().containsAll(List.of(1L, 2L)));
+        assertEquals(0, index.search("react 스터디", 0, 10).getIds().stream().filter(id -> id == 3L).count());
+    }
+
+    @Test
+    @DisplayName("많은 삭제 후 압축해도 결과 유지")
+    void compaction() {
+        for (long id = 100; id < 3100; id++) {
+            index.put(id, "임시 게시물", "temporary");
+        }
+        for (long id = 100; id < 3100; id++) {
+            index.remove(id);
+        }
+
+        assertEquals(3, index.size());
+        assertEquals(List.of(3L, 1L), index.search("spring", 0, 10).getIds());
+        assertEquals(0, index.search("temporary", 0, 10).getTotalHits());
+    }
+
+    @Test
+    @DisplayName("압축 전 삭제된 문서는 idf 계산에서 빠짐")
+    void idfIgnoresDeletedDocs() {
+        InvertedIndex fresh = new InvertedIndex();
+        for (long id = 100; id < 120; id++) {
+            fresh.put(id, "alpha");
+        }
+        for (long id = 200; id < 205; id++) {
+            fresh.put(id, "beta");
+        }
+        fresh.put(1L, "alpha");
+        fresh.put(2L, "beta");
+        for (long id = 100; id < 120; id++) {
+            fresh.remove(id);
+        }
+
+        // 살아 있는 문서 중 alpha 가 더 드물므로 1번이 앞섭니다.
+        assertEquals(List.of(1L, 2L), fresh.search("alpha beta", 0, 2).getIds());
+    }
+}
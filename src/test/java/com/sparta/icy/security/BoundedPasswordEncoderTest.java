@@ -0,0 +1,108 @@
+package com.sparta.icy.security;
+
+import com.sparta.icy.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        // cost 측정 테스트는 encoder 를 만들지 않습니다.
+        if (encoder != null) {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("전용 스레드에서 해시/검증하고 시간을 기록")
+    void encodeAndMatches() {
+        encoder = new BoundedPasswordEncoder(4, 2, 8, Duration.ofSeconds(5), meterRegistry);
+
+        String encoded = encoder.encode("Aa123456789!");
+
+        assertTrue(encoder.matches("Aa123456789!", encoded));
+        assertFalse(encoder.matches("wrong", encoded));
+        assertEquals(1, meterRegistry.get("password.hash").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("password.hash").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    @DisplayName("낮은 cost 로 저장된 해시는 재해시 대상")
+    void upgradeEncoding() {
+        encoder = new BoundedPasswordEncoder(5, 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password")));
+        assertFalse(encoder.upgradeEncoding(encoder.encode("password")));
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 거절")
+    void rejectWhenQueueIsFull() {
+        encoder = new BoundedPasswordEncoder(12, 1, 1, Duration.ofSeconds(30), meterRegistry);
+        ExecutorService callers = Executors.newFixedThreadPool(6);
+        try {
+            List<CompletableFuture<String>> results = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> encoder.encode("password"), callers));
+            }
+            long rejected = results.stream().filter(result -> {
+                try {
+                    result.join();
+                    return false;
+                } catch (CompletionException e) {
+                    return e.getCause() instanceof PasswordHashingBusyException;
+                }
+            }).count();
+
+            assertTrue(rejected >= 1);
+            assertEquals(rejected, (long) meterRegistry.get("password.hash.rejected").counter().count());
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("대기 시간 초과는 큐에 있는 작업만 거절하고, 실행 중인 작업은 끝까지 기다림")
+    void timeoutOnlyWhileQueued() throws Exception {
+        encoder = new BoundedPasswordEncoder(12, 1, 1, Duration.ofMillis(20), meterRegistry);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("password"));
+        while (meterRegistry.get("password.hash.active").gauge().value() < 1) {
+            Thread.sleep(1);
+        }
+
+        assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("password"));
+
+        assertEquals(0, meterRegistry.get("password.hash.queue.size").gauge().value());
+        assertTrue(encoder.matches("password", running.get(30, TimeUnit.SECONDS)));
+        assertEquals(1, (long) meterRegistry.get("password.hash.rejected").counter().count());
+    }
+
+    @Test
+    @DisplayName("목표 시간에 맞춰 cost 를 min~max 사이에서 선택")
+    void calibrate() {
+        int strength = BoundedPasswordEncoder.calibrate(Duration.ofMillis(1), 4, 6);
+
+        assertTrue(strength >= 4 && strength <= 6);
+    }
+}
@@ -0,0 +1,89 @@
+package com.sparta.icy.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("burst 만큼 허용한 뒤 거절하고, 다음 토큰까지 남은 시간을 알려줌")
+    void burstThenReject() {
+        // 1분에 6개 (10초에 1개), 최대 3개 몰아서
+        RateLimiter limiter = new RateLimiter(6, Duration.ofMinutes(1), 3, 100);
+        long now = 1_000 * SECOND;
+
+        assertEquals(0, limiter.tryAcquire("127.0.0.1", now));
+        assertEquals(0, limiter.tryAcquire("127.0.0.1", now));
+        assertEquals(0, limiter.tryAcquire("127.0.0.1", now));
+        assertEquals(10 * SECOND, limiter.tryAcquire("127.0.0.1", now));
+
+        assertEquals(0, limiter.tryAcquire("127.0.0.1", now + 10 * SECOND));
+        assertTrue(limiter.tryAcquire("127.0.0.1", now + 10 * SECOND) > 0);
+    }
+
+    @Test
+    @DisplayName("키마다 따로 제한")
+    void separateBuckets() {
+        RateLimiter limiter = new RateLimiter(1, Duration.ofMinutes(1), 1, 100);
+        long now = 1_000 * SECOND;
+
+        assertEquals(0, limiter.tryAcquire("user1", now));
+        assertTrue(limiter.tryAcquire("user1", now) > 0);
+        assertEquals(0, limiter.tryAcquire("user2", now));
+    }
+
+    @Test
+    @DisplayName("다 찬 버킷은 지우고, 지워도 허용량은 같음")
+    void evictIdle() {
+        RateLimiter limiter = new RateLimiter(6, Duration.ofMinutes(1), 2, 100);
+        long now = 1_000 * SECOND;
+        limiter.tryAcquire("a", now);
+        limiter.tryAcquire("b", now);
+        limiter.tryAcquire("b", now);
+
+        assertEquals(1, limiter.evictIdle(now + 10 * SECOND));
+        assertEquals(1, limiter.size());
+        assertEquals(1, limiter.evictIdle(now + 20 * SECOND));
+        assertEquals(0, limiter.size());
+    }
+
+    @Test
+    @DisplayName("키 수 상한에 닿으면 쉬는 버킷부터 치움")
+    void boundedKeys() {
+        RateLimiter limiter = new RateLimiter(6, Duration.ofMinutes(1), 1, 2);
+        long now = 1_000 * SECOND;
+        limiter.tryAcquire("a", now);
+        limiter.tryAcquire("b", now);
+
+        assertEquals(0, limiter.tryAcquire("c", now + 10 * SECOND));
+        assertTrue(limiter.size() <= 2);
+    }
+
+    @Test
+    @DisplayName("키 수 상한에서 정리는 간격마다 한 번만 하고, 그 사이 새 키는 추적 없이 통과")
+    void sweepIsRateLimited() {
+        // 10초에 1개, 키 2개까지
+        RateLimiter limiter = new RateLimiter(6, Duration.ofMinutes(1), 1, 2);
+        long now = 1_000 * SECOND;
+        limiter.tryAcquire("a", now);
+        limiter.tryAcquire("b", now);
+
+        // 첫 정리: 쉬는 버킷이 없어 추적하지 않고 통과
+        assertEquals(0, limiter.tryAcquire("c", now + SECOND));
+        // a, b 는 쉬지만 직전 정리에서 10초가 안 지나 다시 훑지 않음
+        assertEquals(0, limiter.tryAcquire("d", now + 10 * SECOND));
+        assertEquals(0, limiter.tryAcquire("d", now + 10 * SECOND));
+        assertEquals(2, limiter.size());
+        // 간격이 지나면 정리하고 새 키를 추적
+        assertEquals(0, limiter.tryAcquire("e", now + 11 * SECOND));
+        assertTrue(limiter.tryAcquire("e", now + 11 * SECOND) > 0);
+    }
+}
@@ -0,0 +1,64 @@
+package com.sparta.icy.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RevocationSetTest {
+
+    @Test
+    @DisplayName("기준 시각 이전에 발급된 토큰만 거절")
+    void rejectOnlyBeforeWatermark() {
+        RevocationSet set = new RevocationSet();
+        set.revoke(1L, 1_000L);
+
+        assertTrue(set.isRevoked(1L, 999L));
+        assertFalse(set.isRevoked(1L, 1_000L));
+        assertFalse(set.isRevoked(1L, 1_001L));
+        assertFalse(set.isRevoked(2L, 999L));
+    }
+
+    @Test
+    @DisplayName("더 이른 기준 시각으로는 되돌리지 않음")
+    void keepLatestWatermark() {
+        RevocationSet set = new RevocationSet();
+        set.revoke(1L, 2_000L);
+        set.revoke(1L, 1_000L);
+
+        assertTrue(set.isRevoked(1L, 1_500L));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    @DisplayName("많은 사용자를 넣어도 정확히 판단 (블룸 필터 오탐은 정확한 표에서 걸러짐)")
+    void exactAfterBloom() {
+        RevocationSet set = new RevocationSet();
+        Map<Long, Long> entries = new HashMap<>();
+        for (long userId = 1; userId <= 10_000; userId += 2) {
+            entries.put(userId, 1_000L);
+        }
+        set.replaceAll(entries);
+
+        for (long userId = 1; userId <= 10_000; userId++) {
+            assertEquals(userId % 2 == 1, set.isRevoked(userId, 500L));
+        }
+    }
+
+    @Test
+    @DisplayName("가장 긴 토큰 수명이 지난 기록은 만료")
+    void expireOldEntries() {
+        RevocationSet set = new RevocationSet();
+        set.revoke(1L, 1_000L);
+        set.revoke(2L, 5_000L);
+
+        assertEquals(1, set.expire(1_000L));
+        assertFalse(set.isRevoked(1L, 500L));
+        assertTrue(set.isRevoked(2L, 500L));
+    }
+}
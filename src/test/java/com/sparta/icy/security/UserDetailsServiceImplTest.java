@@ -0,0 +1,78 @@
+package com.sparta.icy.security;
+
+import com.sparta.icy.config.CacheConfig;
+import com.sparta.icy.entity.User;
+import com.sparta.icy.entity.UserStatus;
+import com.sparta.icy.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.authentication.DisabledException;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(classes = {UserDetailsServiceImpl.class, CacheConfig.class})
+@ImportAutoConfiguration(CacheAutoConfiguration.class)
+class UserDetailsServiceImplTest {
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+    @Autowired
+    private CacheManager cacheManager;
+    @MockBean
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.USER_PRINCIPAL_CACHE).clear();
+    }
+
+    @Test
+    @DisplayName("JWT 인가용 사용자 조회는 캐시되어 DB 를 한 번만 조회")
+    void loadCachedUserByUsername() {
+        User user = new User("principal01", "nickname", "Aa123456789!", "principal@example.com", "intro", UserStatus.IN_ACTION);
+        given(userRepository.findByUsername("principal01")).willReturn(Optional.of(user));
+
+        assertSame(user, ((UserDetailsImpl) userDetailsService.loadCachedUserByUsername("principal01")).getUser());
+        assertSame(user, ((UserDetailsImpl) userDetailsService.loadCachedUserByUsername("principal01")).getUser());
+
+        verify(userRepository, times(1)).findByUsername("principal01");
+    }
+
+    @Test
+    @DisplayName("회원 정보 변경 시 캐시를 비우면 다시 DB 에서 조회")
+    void evictCachedUser() {
+        User user = new User("principal02", "nickname", "Aa123456789!", "principal2@example.com", "intro", UserStatus.IN_ACTION);
+        given(userRepository.findByUsername("principal02")).willReturn(Optional.of(user));
+
+        userDetailsService.loadCachedUserByUsername("principal02");
+        userDetailsService.evictCachedUser("principal02");
+        userDetailsService.loadCachedUserByUsername("principal02");
+
+        verify(userRepository, times(2)).findByUsername("principal02");
+    }
+
+    @Test
+    @DisplayName("탈퇴한 회원은 캐시하지 않음")
+    void secededUserIsNotCached() {
+        User user = new User("principal03", "nickname", "Aa123456789!", "principal3@example.com", "intro", UserStatus.SECESSION);
+        given(userRepository.findByUsername("principal03")).willReturn(Optional.of(user));
+
+        assertThrows(DisabledException.class, () -> userDetailsService.loadCachedUserByUsername("principal03"));
+        assertThrows(DisabledException.class, () -> userDetailsService.loadCachedUserByUsername("principal03"));
+
+        verify(userRepository, times(2)).findByUsername("principal03");
+    }
+}
@@ -0,0 +1,137 @@
+package com.sparta.icy.service;
+
+import com.sparta.icy.dto.NewsfeedPageResponseDto;
+import com.sparta.icy.dto.NewsfeedResponseDto;
+import com.sparta.icy.repository.NewsfeedRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class LatestNewsfeedSnapshotTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 6, 1, 10, 0);
+
+    private NewsfeedRepository newsfeedRepository;
+    private LatestNewsfeedSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        newsfeedRepository = mock(NewsfeedRepository.class);
+        snapshot = new LatestNewsfeedSnapshot(newsfeedRepository, 3, Duration.ofMinutes(1));
+    }
+
+    private NewsfeedResponseDto feed(long id) {
+        LocalDateTime createdAt = BASE.plusMinutes(id);
+        return new NewsfeedResponseDto(id, "제목" + id, 5, "내용", createdAt, createdAt, 1L);
+    }
+
+    @Test
+    @DisplayName("적재 후에는 DB 조회 없이 첫 페이지 응답")
+    void servesFromMemory() {
+        given(newsfeedRepository.findLatest(any())).willReturn(List.of(feed(2), feed(1)));
+        snapshot.warmUp();
+
+        NewsfeedPageResponseDto page = snapshot.firstPage(2);
+        snapshot.firstPage(2);
+
+        assertEquals(2, page.getNewsfeeds().size());
+        assertFalse(page.isHasNext());
+        verify(newsfeedRepository, times(1)).findLatest(any());
+    }
+
+    @Test
+    @DisplayName("작성/수정/삭제가 스냅샷에 반영")
+    void incrementalUpdates() {
+        given(newsfeedRepository.findLatest(any())).willReturn(List.of(feed(2), feed(1)));
+        snapshot.warmUp();
+
+        snapshot.onCreated(feed(3));
+        NewsfeedResponseDto updated = feed(2);
+        updated.setTitle("수정된 제목");
+        snapshot.onUpdated(updated);
+        snapshot.onDeleted(1L);
+
+        List<NewsfeedResponseDto> items = snapshot.firstPage(3).getNewsfeeds();
+        assertEquals(List.of(3L, 2L), items.stream().map(NewsfeedResponseDto::getId).toList());
+        assertEquals("수정된 제목", items.get(1).getTitle());
+        verify(newsfeedRepository, times(1)).findLatest(any());
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 다음 커서 제공")
+    void trimsToCapacity() {
+        given(newsfeedRepository.findLatest(any())).willReturn(List.of(feed(3), feed(2), feed(1)));
+        snapshot.warmUp();
+
+        snapshot.onCreated(feed(4));
+        NewsfeedPageResponseDto page = snapshot.firstPage(3);
+
+        assertEquals(List.of(4L, 3L, 2L), page.getNewsfeeds().stream().map(NewsfeedResponseDto::getId).toList());
+        assertTrue(page.isHasNext());
+    }
+
+    @Test
+    @DisplayName("스냅샷보다 큰 페이지는 DB 로 넘김")
+    void tooLargePage() {
+        assertNull(snapshot.firstPage(10));
+    }
+
+    @Test
+    @DisplayName("적재 중에 들어온 변경은 적재 결과에 다시 적용해 설치")
+    void replaysChangesDuringReload() {
+        given(newsfeedRepository.findLatest(any())).willAnswer(invocation -> {
+            snapshot.onCreated(feed(3));
+            snapshot.onDeleted(1L);
+            return List.of(feed(2), feed(1));
+        });
+        snapshot.warmUp();
+
+        NewsfeedPageResponseDto page = snapshot.firstPage(3);
+
+        assertEquals(List.of(3L, 2L), page.getNewsfeeds().stream().map(NewsfeedResponseDto::getId).toList());
+        verify(newsfeedRepository, times(1)).findLatest(any());
+    }
+
+    @Test
+    @DisplayName("적재 중에 무효화되면 설치하지 않음")
+    void invalidateDuringReload() {
+        given(newsfeedRepository.findLatest(any()))
+                .willAnswer(invocation -> {
+                    snapshot.invalidate();
+                    return List.of(feed(1));
+                })
+                .willReturn(List.of(feed(2), feed(1)));
+        snapshot.warmUp();
+
+        NewsfeedPageResponseDto page = snapshot.firstPage(2);
+
+        assertEquals(List.of(2L, 1L), page.getNewsfeeds().stream().map(NewsfeedResponseDto::getId).toList());
+        verify(newsfeedRepository, times(2)).findLatest(any());
+    }
+
+    @Test
+    @DisplayName("다른 요청이 적재 중이면 다시 조회하지 않고 DB 로 넘김")
+    void singleReloadAtATime() {
+        AtomicReference<NewsfeedPageResponseDto> duringReload = new AtomicReference<>();
+        given(newsfeedRepository.findLatest(any())).willAnswer(invocation -> {
+            duringReload.set(snapshot.firstPage(2));
+            return List.of(feed(2), feed(1));
+        });
+
+        NewsfeedPageResponseDto page = snapshot.firstPage(2);
+
+        assertNull(duringReload.get());
+        assertEquals(2, page.getNewsfeeds().size());
+        verify(newsfeedRepository, times(1)).findLatest(any());
+    }
+}
@@ -0,0 +1,160 @@
+package com.sparta.icy.service;
+
+import com.sparta.icy.config.CacheConfig;
+import com.sparta.icy.dto.NewsfeedDto;
+import com.sparta.icy.dto.NewsfeedResponseDto;
+import com.sparta.icy.entity.Newsfeed;
+import com.sparta.icy.entity.User;
+import com.sparta.icy.entity.UserStatus;
+import com.sparta.icy.repository.CommentRepository;
+import com.sparta.icy.repository.NewsfeedRepository;
+import com.sparta.icy.search.NewsfeedSearchIndex;
+import com.sparta.icy.security.UserDetailsImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(classes = {NewsfeedService.class, LatestNewsfeedSnapshot.class, NewsfeedSearchIndex.class, CacheConfig.class})
+@ImportAutoConfiguration({CacheAutoConfiguration.class, TaskExecutionAutoConfiguration.class})
+class NewsfeedServiceCacheTest {
+
+    @Autowired
+    private NewsfeedService newsfeedService;
+    @Autowired
+    private CacheManager cacheManager;
+    @MockBean
+    private NewsfeedRepository newsfeedRepository;
+    @MockBean
+    private CommentRepository commentRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.NEWSFEED_CACHE).clear();
+        user = new User("username11", "nickname", "Aa123456789!", "test@example.com", "intro", UserStatus.IN_ACTION);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        UserDetailsImpl userDetails = new UserDetailsImpl(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private NewsfeedResponseDto response(String title) {
+        LocalDateTime now = LocalDateTime.now();
+        return new NewsfeedResponseDto(1L, title, 5, "내용", now, now, 1L);
+    }
+
+    @Test
+    @DisplayName("두 번째 조회는 캐시에서 응답")
+    void getNewsfeedCached() {
+        NewsfeedResponseDto dto = response("제목");
+        given(newsfeedRepository.findResponseById(1L)).willReturn(Optional.of(dto));
+
+        NewsfeedResponseDto first = newsfeedService.getNewsfeed(1L);
+        NewsfeedResponseDto second = newsfeedService.getNewsfeed(1L);
+
+        assertSame(first, second);
+        verify(newsfeedRepository, times(1)).findResponseById(1L);
+    }
+
+    @Test
+    @DisplayName("수정 후에는 DB 에서 다시 조회")
+    void updateEvicts() {
+        given(newsfeedRepository.findResponseById(1L)).willReturn(Optional.of(response("제목")));
+        newsfeedService.getNewsfeed(1L);
+
+        Newsfeed newsfeed = new Newsfeed();
+        newsfeed.setId(1L);
+        newsfeed.setUser(user);
+        given(newsfeedRepository.findById(1L)).willReturn(Optional.of(newsfeed));
+        NewsfeedDto update = new NewsfeedDto();
+        update.setTitle("수정된 제목");
+        update.setContent("수정된 내용");
+        newsfeedService.updateNewsfeed(1L, update);
+
+        newsfeedService.getNewsfeed(1L);
+        verify(newsfeedRepository, times(2)).findResponseById(1L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 수정은 커밋 후에 캐시를 비움")
+    void updateEvictsAfterCommit() {
+        given(newsfeedRepository.findResponseById(1L)).willReturn(Optional.of(response("제목")));
+        newsfeedService.getNewsfeed(1L);
+
+        Newsfeed newsfeed = new Newsfeed();
+        newsfeed.setId(1L);
+        newsfeed.setUser(user);
+        given(newsfeedRepository.findById(1L)).willReturn(Optional.of(newsfeed));
+        NewsfeedDto update = new NewsfeedDto();
+        update.setTitle("수정된 제목");
+        update.setContent("수정된 내용");
+
+        TransactionSynchronizationManager.initSynchronization();
+        newsfeedService.updateNewsfeed(1L, update);
+        // 커밋 전: 아직 캐시에서 응답
+        newsfeedService.getNewsfeed(1L);
+        verify(newsfeedRepository, times(1)).findResponseById(1L);
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        newsfeedService.getNewsfeed(1L);
+        verify(newsfeedRepository, times(2)).findResponseById(1L);
+    }
+
+    @Test
+    @DisplayName("댓글 수 변경은 커밋 후에 캐시를 비우고, 롤백되면 그대로 둠")
+    void commentsChangedEvictsAfterCommit() {
+        given(newsfeedRepository.findResponseById(1L)).willReturn(Optional.of(response("제목")));
+        newsfeedService.getNewsfeed(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        newsfeedService.onCommentsChanged(1L);
+        TransactionSynchronizationManager.clearSynchronization();
+        // 롤백: 캐시가 남아 있음 (getNewsfeed 1회 + onCommentsChanged 1회)
+        newsfeedService.getNewsfeed(1L);
+        verify(newsfeedRepository, times(2)).findResponseById(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        newsfeedService.onCommentsChanged(1L);
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        newsfeedService.getNewsfeed(1L);
+        verify(newsfeedRepository, times(4)).findResponseById(1L);
+    }
+
+    @Test
+    @DisplayName("아주 큰 검색 페이지 번호는 넘치지 않고 거절")
+    void searchPageOverflow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> newsfeedService.searchNewsfeeds("spring", Integer.MAX_VALUE, 10));
+    }
+}
@@ -0,0 +1,51 @@
+package com.sparta.icy.service;
+
+import com.sparta.icy.exception.InvalidRefreshTokenException;
+import com.sparta.icy.token.InMemoryRefreshTokenStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RefreshTokenServiceTest {
+
+    private final InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore();
+    private final RefreshTokenService service = new RefreshTokenService(store, Duration.ofDays(14), 500);
+
+    @Test
+    @DisplayName("저장소에는 원문 대신 해시가 저장됨")
+    void storesHashOnly() {
+        String token = service.issue(1L);
+
+        assertFalse(store.find(token).isPresent());
+        assertTrue(store.find(RefreshTokenService.hash(token)).isPresent());
+        assertNotEquals(token, service.issue(1L));
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰은 한 번만 사용 가능")
+    void consumeOnce() {
+        String token = service.issue(1L);
+
+        assertEquals(1L, service.consume(token));
+        assertThrows(InvalidRefreshTokenException.class, () -> service.consume(token));
+    }
+
+    @Test
+    @DisplayName("만료되었거나 없는 토큰은 거절")
+    void rejectExpiredOrMissing() {
+        store.save(RefreshTokenService.hash("expired"), 1L, LocalDateTime.now().minusSeconds(1));
+
+        assertThrows(InvalidRefreshTokenException.class, () -> service.consume("expired"));
+        assertFalse(store.find(RefreshTokenService.hash("expired")).isPresent());
+        assertThrows(InvalidRefreshTokenException.class, () -> service.consume("unknown"));
+        assertThrows(InvalidRefreshTokenException.class, () -> service.consume(null));
+    }
+}
@@ -0,0 +1,74 @@
+package com.sparta.icy.sql;
+
+import com.sparta.icy.dto.SqlStatementStatsDto;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InstrumentedDataSourceTest {
+
+    private SqlStatistics statistics;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:sqlstats;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        statistics = new SqlStatistics(100, Duration.ofSeconds(1));
+        jdbcTemplate = new JdbcTemplate(new InstrumentedDataSource(h2, statistics));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS item");
+        jdbcTemplate.execute("CREATE TABLE item (id BIGINT PRIMARY KEY, name VARCHAR(20))");
+        statistics.reset();
+    }
+
+    @Test
+    @DisplayName("문장 모양별 실행 횟수, 행 수, 파라미터 타입, 엔드포인트를 기록한다")
+    void recordStatements() {
+        SqlContext.Scope scope = SqlContext.enter("ItemController.list");
+        try {
+            for (long id = 1; id <= 3; id++) {
+                jdbcTemplate.update("INSERT INTO item (id, name) VALUES (?, ?)", id, "item" + id);
+            }
+            jdbcTemplate.queryForList("SELECT name FROM item WHERE id > ?", String.class, 0L);
+        } finally {
+            SqlContext.exit(scope);
+        }
+        jdbcTemplate.queryForList("SELECT name FROM item WHERE id > 1", String.class);
+
+        List<SqlStatementStatsDto> stats = statistics.snapshot(10, "ItemController.list");
+        assertEquals(2, stats.size());
+        SqlStatementStatsDto insert = find(stats, "INSERT INTO item (id, name) VALUES (?, ?)");
+        assertEquals(3, insert.getCount());
+        assertEquals(3, insert.getRows());
+        assertEquals("(Long, String)", insert.getParameters());
+        SqlStatementStatsDto select = find(stats, "SELECT name FROM item WHERE id > ?");
+        assertEquals(3, select.getRows());
+        assertTrue(select.getP99Millis() >= select.getP50Millis());
+
+        // 요청 밖에서 실행된 문장은 따로 묶입니다.
+        List<SqlStatementStatsDto> background = statistics.snapshot(10, SqlContext.NO_ENDPOINT);
+        assertEquals(1, background.size());
+        assertEquals(2, background.get(0).getRows());
+    }
+
+    @Test
+    @DisplayName("실패한 문장은 오류로 센다")
+    void recordErrors() {
+        assertThrows(Exception.class, () -> jdbcTemplate.queryForList("SELECT missing FROM item"));
+        SqlStatementStatsDto stats = statistics.snapshot(10, null).get(0);
+        assertEquals(1, stats.getErrors());
+    }
+
+    private static SqlStatementStatsDto find(List<SqlStatementStatsDto> stats, String shape) {
+        return stats.stream().filter(s -> s.getShape().equals(shape)).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,70 @@
+package com.sparta.icy.sql;
+
+import com.sparta.icy.exception.QueryBudgetExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryBudgetGuardTest {
+
+    private final QueryBudgetGuard guard = new QueryBudgetGuard(true, 5, 2, true);
+
+    @QueryBudget(max = 2)
+    public void listHandler() {
+    }
+
+    public void plainHandler() {
+    }
+
+    private SqlContext.Scope run(String... shapes) {
+        SqlContext.Scope scope = SqlContext.enter("Test.handler");
+        try {
+            for (String shape : shapes) {
+                SqlContext.onStatement(shape);
+            }
+        } finally {
+            SqlContext.exit(scope);
+        }
+        return scope;
+    }
+
+    @Test
+    @DisplayName("선언한 문장 수를 넘으면 실패")
+    void exceedMax() throws NoSuchMethodException {
+        Method method = getClass().getMethod("listHandler");
+        assertDoesNotThrow(() -> guard.check(method, run("select a", "select b")));
+        assertThrows(QueryBudgetExceededException.class,
+                () -> guard.check(method, run("select a", "select b", "select c")));
+    }
+
+    @Test
+    @DisplayName("같은 문장 반복(N+1)은 문장 수가 한도 안이어도 실패")
+    void detectRepeats() throws NoSuchMethodException {
+        Method method = getClass().getMethod("listHandler");
+        QueryBudgetExceededException e = assertThrows(QueryBudgetExceededException.class,
+                () -> guard.check(method, run("select * from users where id=?", "select * from users where id=?")));
+        assertTrue(e.getMessage().contains("select * from users where id=?"));
+    }
+
+    @Test
+    @DisplayName("선언하지 않은 핸들러는 기본 한도")
+    void defaultBudget() throws NoSuchMethodException {
+        Method method = getClass().getMethod("plainHandler");
+        assertDoesNotThrow(() -> guard.check(method, run("select a", "select a", "select b", "select c", "select d")));
+        assertThrows(QueryBudgetExceededException.class,
+                () -> guard.check(method, run("select a", "select a", "select a")));
+    }
+
+    @Test
+    @DisplayName("경고 모드는 던지지 않는다")
+    void warnOnly() throws NoSuchMethodException {
+        QueryBudgetGuard warnOnly = new QueryBudgetGuard(true, 5, 2, false);
+        Method method = getClass().getMethod("listHandler");
+        assertDoesNotThrow(() -> warnOnly.check(method, run("select a", "select b", "select c")));
+    }
+}
@@ -0,0 +1,27 @@
+package com.sparta.icy.sql;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SqlShapesTest {
+
+    @Test
+    @DisplayName("리터럴, 주석, 공백, IN 목록을 정리한다")
+    void normalize() {
+        assertEquals("select n1_0.id from newsfeed n1_0 where n1_0.title=? and n1_0.id in (?...) limit ?",
+                SqlShapes.normalize("/* <criteria> */ select n1_0.id\n    from newsfeed n1_0\n    where n1_0.title='it''s' and n1_0.id in (?,?,?) limit 20"));
+        assertEquals("select * from comment where feed_id=? and id>?",
+                SqlShapes.normalize("select * from comment where feed_id=? and id>15"));
+        assertEquals("delete from log where id in (?...)",
+                SqlShapes.normalize("delete from log where id in (1, 2, 3)"));
+    }
+
+    @Test
+    @DisplayName("같은 모양의 문장은 같은 결과")
+    void sameShape() {
+        SqlShapes shapes = new SqlShapes(10);
+        assertEquals(shapes.shapeOf("select * from users where id = 1"), shapes.shapeOf("select *   from users where id = 42"));
+    }
+}
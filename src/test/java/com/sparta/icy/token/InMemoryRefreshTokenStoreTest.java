@@ -0,0 +1,84 @@
+package com.sparta.icy.token;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryRefreshTokenStoreTest {
+
+    private final InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore();
+
+    @Test
+    @DisplayName("만료 시각이 지난 토큰만 정리")
+    void purgeOnlyExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        store.save("a", 1L, now.plusSeconds(5));
+        store.save("b", 1L, now.plusSeconds(30));
+        store.save("c", 2L, now.plusDays(14));
+
+        assertEquals(1, store.purgeExpired(now.plusSeconds(10), 100));
+        assertFalse(store.find("a").isPresent());
+        assertTrue(store.find("b").isPresent());
+
+        assertEquals(1, store.purgeExpired(now.plusMinutes(1), 100));
+        assertEquals(1, store.size());
+        assertEquals(1, store.scheduled());
+    }
+
+    @Test
+    @DisplayName("한 번에 limit 개까지만 정리하고 나머지는 다음 호출에서")
+    void purgeRespectsLimit() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            store.save("t" + i, 1L, now.plusSeconds(1));
+        }
+
+        assertEquals(2, store.purgeExpired(now.plusSeconds(10), 2));
+        assertEquals(2, store.purgeExpired(now.plusSeconds(10), 2));
+        assertEquals(1, store.purgeExpired(now.plusSeconds(10), 2));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 먼 만료는 슬롯을 지나가도 남아 있음")
+    void farDeadlineSurvivesRotation() {
+        LocalDateTime now = LocalDateTime.now();
+        store.save("far", 1L, now.plusDays(14));
+
+        // 1초 틱 * 1024 슬롯을 여러 바퀴 돌려도
+        for (int minutes = 10; minutes <= 60; minutes += 10) {
+            assertEquals(0, store.purgeExpired(now.plusMinutes(minutes), 100));
+        }
+        assertTrue(store.find("far").isPresent());
+        assertEquals(1, store.purgeExpired(now.plusDays(15), 100));
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 지워짐")
+    void deleteOnce() {
+        store.save("a", 1L, LocalDateTime.now().plusDays(1));
+
+        assertTrue(store.delete("a"));
+        assertFalse(store.delete("a"));
+        // 먼저 지워진 키는 휠에서도 빠짐
+        store.purgeExpired(LocalDateTime.now().plusDays(2), 100);
+        assertEquals(0, store.scheduled());
+    }
+
+    @Test
+    @DisplayName("사용자의 토큰 전체 삭제")
+    void deleteByUserId() {
+        LocalDateTime expiry = LocalDateTime.now().plusDays(1);
+        store.save("a", 1L, expiry);
+        store.save("b", 1L, expiry);
+        store.save("c", 2L, expiry);
+
+        assertEquals(2, store.deleteByUserId(1L));
+        assertTrue(store.find("c").isPresent());
+    }
+}
@@ -0,0 +1,111 @@
+package com.sparta.icy.token;
+
+import com.sparta.icy.entity.RefreshToken;
+import com.sparta.icy.entity.User;
+import com.sparta.icy.entity.UserStatus;
+import com.sparta.icy.repository.RefreshTokenRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "refresh-token.store=jpa")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(JpaRefreshTokenStore.class)
+class JpaRefreshTokenStoreTest {
+
+    @Autowired
+    private JpaRefreshTokenStore store;
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = em.persist(new User("tokenuser01", "tokenNickname", "Aa123456789!", "token@example.com", "intro", UserStatus.IN_ACTION));
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("해시로 저장하고 조회")
+    void saveAndFind() {
+        LocalDateTime expiry = LocalDateTime.of(2030, 1, 1, 0, 0);
+        store.save("hash-1", user.getId(), expiry);
+        em.flush();
+        em.clear();
+
+        Optional<StoredRefreshToken> found = store.find("hash-1");
+        assertTrue(found.isPresent());
+        assertEquals(user.getId(), found.get().getUserId());
+        assertEquals(expiry, found.get().getExpiryDate());
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 지워짐")
+    void deleteOnce() {
+        store.save("hash-1", user.getId(), LocalDateTime.now().plusDays(1));
+        em.flush();
+
+        assertTrue(store.delete("hash-1"));
+        assertFalse(store.delete("hash-1"));
+    }
+
+    @Test
+    @DisplayName("만료된 토큰을 청크 단위로 정리")
+    void purgeInChunks() {
+        LocalDateTime now = LocalDateTime.of(2024, 6, 1, 0, 0);
+        for (int i = 0; i < 5; i++) {
+            store.save("expired-" + i, user.getId(), now.minusMinutes(i + 1));
+        }
+        store.save("alive", user.getId(), now.plusDays(1));
+        em.flush();
+
+        assertEquals(2, store.purgeExpired(now, 2));
+        assertEquals(2, store.purgeExpired(now, 2));
+        assertEquals(1, store.purgeExpired(now, 2));
+        assertEquals(0, store.purgeExpired(now, 2));
+        em.clear();
+        assertTrue(store.find("alive").isPresent());
+    }
+
+    @Test
+    @DisplayName("이 인스턴스가 저장한 토큰은 휠에서, 나머지는 expiry_date 조회로 정리")
+    void purgeFromWheelAndIndex() {
+        // 다른 테스트가 올린 토큰이 섞이지 않도록 휠이 빈 저장소를 따로 만듭니다.
+        JpaRefreshTokenStore store = new JpaRefreshTokenStore(refreshTokenRepository, entityManager, 100);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 3; i++) {
+            store.save("mine-" + i, user.getId(), now.plusSeconds(1));
+        }
+        // 다른 인스턴스가 저장한 토큰 (휠에 없음)
+        em.persist(new RefreshToken("other", user, now.minusMinutes(1)));
+        em.flush();
+        assertEquals(3, store.scheduled());
+
+        assertEquals(2, store.purgeExpired(now.plusMinutes(1), 2));
+        assertEquals(2, store.purgeExpired(now.plusMinutes(1), 2));
+        assertEquals(0, store.purgeExpired(now.plusMinutes(1), 2));
+        assertEquals(0, store.scheduled());
+        em.clear();
+        assertFalse(store.find("other").isPresent());
+    }
+}